@@ -0,0 +1,61 @@
+package benchmarks;
+
+import commands.CommandInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import services.CommandLogParser;
+import utils.JsonContext;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compară citirea fișierului de comenzi prin databind (COMMANDS_READER) cu CommandLogParser.
+ * Rulare: mvn -Pbench test-compile exec:exec (argumentele JMH se dau cu -Djmh.args="...").
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandParsingBenchmark {
+
+    @Param({"input/in_18_test_complex.json"})
+    public String path;
+
+    private File file;
+
+    @Setup
+    public void setup() {
+        file = new File(path);
+    }
+
+    @Benchmark
+    public List<CommandInput> databind() throws Exception {
+        return JsonContext.COMMANDS_READER.readValue(file);
+    }
+
+    @Benchmark
+    public List<CommandInput> streamingReadAll() throws Exception {
+        return CommandLogParser.readAll(file);
+    }
+
+    @Benchmark
+    public void streamingPooled(Blackhole bh) throws Exception {
+        try (CommandLogParser parser = new CommandLogParser(file)) {
+            for (CommandInput c = parser.next(); c != null; c = parser.next()) bh.consume(c);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import commands.CommandInput;
+import models.HistoryLog;
+import models.Ticket;
+import models.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import services.CommandLogParser;
+import services.CommandRunner;
+import services.TicketSystem;
+import utils.JsonContext;
+import utils.SymbolTable;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rulează in_19 multiplicat de copies ori și măsoară memoria reținută de istoricul tichetelor.
+ * Copiile sunt intercalate comandă cu comandă (timpul rămâne monoton); în copia j tichetul t
+ * devine t * copies + j, iar milestone-urile primesc sufixul " #j".
+ * La final se afișează octeții reținuți per eveniment de istoric: heap-ul după rulare minus
+ * heap-ul după ce istoricul e înlocuit cu unul gol (după GC complet, cu SerialGC).
+ * Rulare: mvn -Pbench test-compile exec:exec -Djmh.args="HistoryMemoryBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseSerialGC")
+public class HistoryMemoryBenchmark {
+
+    @Param({"input/in_19_test_complex_edge_case.json"})
+    public String path;
+
+    @Param({"200"})
+    public int copies;
+
+    private List<User> users;
+    private List<CommandInput> commands;
+
+    @Setup
+    public void setup() throws Exception {
+        users = JsonContext.USERS_READER.readValue(new File("input/database/users.json"));
+        Path scaled = Files.createTempFile("in_19_x" + copies, ".json");
+        JsonContext.MAPPER.writeValue(scaled.toFile(), scale((ArrayNode) JsonContext.MAPPER.readTree(new File(path)), copies));
+        commands = CommandLogParser.readAll(scaled.toFile());
+        Files.delete(scaled);
+    }
+
+    private static ArrayNode scale(ArrayNode source, int copies) {
+        ArrayNode out = JsonContext.MAPPER.createArrayNode();
+        for (JsonNode command : source) {
+            // startTestingPhase nu e o comandă înregistrată în CommandRunner
+            if ("startTestingPhase".equals(command.path("command").asText())) continue;
+            for (int j = 0; j < copies; j++) {
+                ObjectNode copy = command.deepCopy();
+                if (copy.has("ticketID")) copy.put("ticketID", copy.get("ticketID").asInt() * copies + j);
+                if (copy.has("tickets")) {
+                    ArrayNode ids = copy.putArray("tickets");
+                    for (JsonNode id : command.get("tickets")) ids.add(id.asInt() * copies + j);
+                }
+                if (copy.has("name")) copy.put("name", copy.get("name").asText() + " #" + j);
+                if (copy.has("blockingFor")) {
+                    ArrayNode names = copy.putArray("blockingFor");
+                    for (JsonNode name : command.get("blockingFor")) names.add(name.asText() + " #" + j);
+                }
+                out.add(copy);
+            }
+        }
+        return out;
+    }
+
+    @Benchmark
+    public TicketSystem replay() {
+        TicketSystem system = TicketSystem.getInstance();
+        system.reset();
+        system.loadUsers(users);
+        CommandRunner runner = new CommandRunner();
+        List<ObjectNode> outputs = new ArrayList<>();
+        for (CommandInput command : commands) {
+            runner.execute(command, outputs);
+            outputs.clear();
+        }
+        return system;
+    }
+
+    @TearDown(Level.Trial)
+    public void reportRetainedHistory() {
+        TicketSystem system = replay();
+        long events = 0;
+        for (Ticket t : system.getTickets().values()) events += t.getHistory().size();
+        long withHistory = usedHeap();
+
+        // Istoricul (log-ul și tabela de simboluri folosită doar de el) e înlocuit cu unul gol
+        SymbolTable symbols = new SymbolTable();
+        system.setSymbols(symbols);
+        system.setHistoryLog(new HistoryLog(symbols));
+        for (Ticket t : system.getTickets().values()) t.setHistoryLog(null);
+        long history = withHistory - usedHeap();
+
+        System.out.printf("%n%d tickets, %d history events, %d bytes retained by history, %.1f bytes/event%n",
+                system.getTickets().size(), events, history, (double) history / events);
+        system.reset();
+    }
+
+    private static long usedHeap() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) System.gc();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
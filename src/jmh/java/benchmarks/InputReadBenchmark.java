@@ -0,0 +1,57 @@
+package benchmarks;
+
+import models.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.JsonContext;
+import utils.MappedInput;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compară citirea lui users.json prin File (stream bufferizat) cu citirea din fișierul mapat.
+ * Măsoară cazul cu page cache cald; pentru cache rece se golește cache-ul între iterații
+ * (ex. vmtouch -e / drop_caches), în afara JMH.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputReadBenchmark {
+
+    @Param({"input/database/users.json"})
+    public String path;
+
+    private File file;
+
+    @Setup
+    public void setup() {
+        file = new File(path);
+    }
+
+    @Benchmark
+    public List<User> bufferedFile() throws Exception {
+        return JsonContext.USERS_READER.readValue(file);
+    }
+
+    @Benchmark
+    public List<User> mapped() throws Exception {
+        try (InputStream in = MappedInput.open(file.toPath())) {
+            return JsonContext.USERS_READER.readValue(in);
+        }
+    }
+}
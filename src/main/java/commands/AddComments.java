@@ -40,6 +40,7 @@ public class AddComments extends BaseCommand {
         }
 
         Comment c = new Comment(user.getUsername(), input.getComment(), input.getTimestamp());
-        ticket.getComments().add(c);
+        int slot = ticket.addComment(c);
+        ticket.getUndoJournal().pushComment(user.getUsername(), slot);
     }
 }
@@ -2,21 +2,19 @@ package commands;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import jdk.jshell.execution.Util;
-import models.Priority;
 import models.Status;
 import models.Ticket;
 import models.User;
 import services.TicketSystem;
+import utils.CompressedBitmap;
 import utils.Utils;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class AppStabilityReport extends BaseCommand {
     public void execute(TicketSystem system, CommandInput input, User user, List<ObjectNode> outputs) {
-        List<Ticket> open = system.getTickets().values().stream()
-                .filter(t -> t.getStatus() == Status.OPEN || t.getStatus() == Status.IN_PROGRESS)
-                .collect(Collectors.toList());
+        CompressedBitmap openIds = system.getAttributeIndex().withStatus(Status.OPEN, Status.IN_PROGRESS);
+        List<Ticket> open = system.ticketsOf(openIds);
 
         ObjectNode res = mapper.createObjectNode();
         res.put("command", "appStabilityReport");
@@ -25,22 +23,9 @@ public class AppStabilityReport extends BaseCommand {
 
         ObjectNode report = mapper.createObjectNode();
 
-        report.put("totalOpenTickets", open.size());
-
-        // openTicketsByType
-        ObjectNode byType = mapper.createObjectNode();
-        byType.put("BUG", open.stream().filter(t -> "BUG".equals(t.getType())).count());
-        byType.put("FEATURE_REQUEST", open.stream().filter(t -> "FEATURE_REQUEST".equals(t.getType())).count());
-        byType.put("UI_FEEDBACK", open.stream().filter(t -> "UI_FEEDBACK".equals(t.getType())).count());
-        report.set("openTicketsByType", byType);
-
-        // openTicketsByPriority
-        ObjectNode byPriority = mapper.createObjectNode();
-        byPriority.put("LOW", open.stream().filter(t -> t.getBusinessPriority() == Priority.LOW).count());
-        byPriority.put("MEDIUM", open.stream().filter(t -> t.getBusinessPriority() == Priority.MEDIUM).count());
-        byPriority.put("HIGH", open.stream().filter(t -> t.getBusinessPriority() == Priority.HIGH).count());
-        byPriority.put("CRITICAL", open.stream().filter(t -> t.getBusinessPriority() == Priority.CRITICAL).count());
-        report.set("openTicketsByPriority", byPriority);
+        report.put("totalOpenTickets", openIds.cardinality());
+        report.set("openTicketsByType", countByType(system, openIds));
+        report.set("openTicketsByPriority", countByPriority(system, openIds));
 
         ObjectNode riskByType = mapper.createObjectNode();
         String bugRisk = Utils.riskQualifier(Utils.avgRiskForType(open, "BUG"));
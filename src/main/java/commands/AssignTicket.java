@@ -6,7 +6,6 @@ import services.TicketSystem;
 import utils.Utils;
 
 import java.util.List;
-import java.util.Optional;
 
 public class AssignTicket extends BaseCommand {
     public void execute(TicketSystem system, CommandInput input, User user, List<ObjectNode> outputs) {
@@ -28,12 +27,11 @@ public class AssignTicket extends BaseCommand {
             addError(outputs, input.getCommand(), input.getUsername(), "Only OPEN tickets can be assigned.", input.getTimestamp());
             return;
         }
-        Optional<Milestone> mOpt = system.getMilestones().stream().filter(m -> m.getTickets().contains(ticketId)).findFirst();
-        if (mOpt.isEmpty()) {
+        Milestone m = system.findMilestoneOfTicket(ticketId);
+        if (m == null) {
             addError(outputs, input.getCommand(), input.getUsername(), "Ticket ID " + ticketId + " is not assigned to any milestone.", input.getTimestamp());
             return;
         }
-        Milestone m = mOpt.get();
         if (!m.getAssignedDevs().contains(user.getUsername())) {
             addError(outputs, input.getCommand(), input.getUsername(), "Developer " + user.getUsername() + " is not assigned to milestone " + m.getName() + ".", input.getTimestamp());
             return;
@@ -53,20 +51,16 @@ public class AssignTicket extends BaseCommand {
             addError(outputs, input.getCommand(), input.getUsername(), "Developer " + dev.getUsername() + " cannot assign ticket " + ticketId + " due to seniority level. Required: " + required + "; Current: " + dev.getSeniority() + ".", input.getTimestamp());
             return;
         }
-        ticket.setAssignedTo(user.getUsername());
+        ticket.getUndoJournal().pushAssignment(user.getUsername(),
+                new UndoJournal.AssignmentUndo(ticket.getAssignedTo(), ticket.getAssignedAt(),
+                        ticket.getStatus()));
+        system.setAssignee(ticket, user.getUsername());
+        system.recordAssignment(user, ticket);
         ticket.setAssignedAt(input.getTimestamp());
-        HistoryEntry assignEntry = new HistoryEntry();
-        assignEntry.setAction("ASSIGNED");
-        assignEntry.setBy(user.getUsername());
-        assignEntry.setTimestamp(input.getTimestamp());
-        ticket.addHistoryEntry(assignEntry);
-        ticket.setStatus(Status.IN_PROGRESS);
-        HistoryEntry statusEntry = new HistoryEntry();
-        statusEntry.setAction("STATUS_CHANGED");
-        statusEntry.setFrom("OPEN");
-        statusEntry.setTo("IN_PROGRESS");
-        statusEntry.setBy(user.getUsername());
-        statusEntry.setTimestamp(input.getTimestamp());
-        ticket.addHistoryEntry(statusEntry);
+        system.getHistoryLog().record(ticket, input.getTimestamp(), HistoryAction.ASSIGNED,
+                user.getUsername());
+        system.updateStatus(ticket, Status.IN_PROGRESS);
+        system.getHistoryLog().statusChanged(ticket, input.getTimestamp(), user.getUsername(),
+                Status.OPEN, Status.IN_PROGRESS);
     }
 }
@@ -1,16 +1,23 @@
 package commands;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import models.Priority;
 import models.Ticket;
 import models.User;
+import services.TicketAttributeIndex;
 import services.TicketSystem;
+import utils.CompressedBitmap;
+import utils.JsonContext;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 public abstract class BaseCommand implements Command {
-    protected final ObjectMapper mapper = new ObjectMapper();
+    protected final ObjectMapper mapper = JsonContext.MAPPER;
 
     protected void addError(List<ObjectNode> outputs, String command, String username, String message, String timestamp) {
         ObjectNode res = mapper.createObjectNode();
@@ -21,38 +28,70 @@ public abstract class BaseCommand implements Command {
         outputs.add(res);
     }
 
-    protected ObjectNode generateReport( List<Ticket> eligibleTickets) {
+    /**
+     * Raportul comun (total, pe tip și pe prioritate) pentru tichetele din eligible.
+     */
+    protected final ObjectNode generateReport(final TicketSystem system,
+                                              final CompressedBitmap eligible) {
         ObjectNode report = mapper.createObjectNode();
-        report.put("totalTickets", eligibleTickets.size());
+        report.put("totalTickets", eligible.cardinality());
+        report.set("ticketsByType", countByType(system, eligible));
+        report.set("ticketsByPriority", countByPriority(system, eligible));
+        return report;
+    }
 
-        // Count by Type
+    /**
+     * Numărul tichetelor din eligible pe fiecare tip. Numărătorile vin direct din
+     * popcount-ul intersecțiilor de bitmap-uri.
+     */
+    protected final ObjectNode countByType(final TicketSystem system,
+                                           final CompressedBitmap eligible) {
+        TicketAttributeIndex index = system.getAttributeIndex();
         ObjectNode byType = mapper.createObjectNode();
-        byType.put("BUG", eligibleTickets.stream().filter(t -> "BUG".equals(t.getType())).count());
-        byType.put("FEATURE_REQUEST", eligibleTickets.stream().filter(t -> "FEATURE_REQUEST".equals(t.getType())).count());
-        byType.put("UI_FEEDBACK", eligibleTickets.stream().filter(t -> "UI_FEEDBACK".equals(t.getType())).count());
-        report.set("ticketsByType", byType);
+        for (String type : new String[] {"BUG", "FEATURE_REQUEST", "UI_FEEDBACK"}) {
+            byType.put(type, CompressedBitmap.andCardinality(eligible, index.withType(type)));
+        }
+        return byType;
+    }
 
-        // Count by Priority
+    /**
+     * Numărul tichetelor din eligible pe fiecare prioritate.
+     */
+    protected final ObjectNode countByPriority(final TicketSystem system,
+                                               final CompressedBitmap eligible) {
+        TicketAttributeIndex index = system.getAttributeIndex();
         ObjectNode byPriority = mapper.createObjectNode();
-        byPriority.put("LOW", eligibleTickets.stream().filter(t -> t.getBusinessPriority() == Priority.LOW).count());
-        byPriority.put("MEDIUM", eligibleTickets.stream().filter(t -> t.getBusinessPriority() == Priority.MEDIUM).count());
-        byPriority.put("HIGH", eligibleTickets.stream().filter(t -> t.getBusinessPriority() == Priority.HIGH).count());
-        byPriority.put("CRITICAL", eligibleTickets.stream().filter(t -> t.getBusinessPriority() == Priority.CRITICAL).count());
-        report.set("ticketsByPriority", byPriority);
-
-        return report;
+        for (Priority p : Priority.values()) {
+            byPriority.put(p.name(),
+                    CompressedBitmap.andCardinality(eligible, index.withPriority(p)));
+        }
+        return byPriority;
     }
-    protected ObjectNode ticketObject(Ticket t) {
-        ObjectNode tn = mapper.createObjectNode();
-        tn.put("id", t.getId());
-        tn.put("type", t.getType());
-        tn.put("title", t.getTitle());
-        tn.put("businessPriority", t.getBusinessPriority().toString());
-        tn.put("status", t.getStatus().toString());
-        tn.put("createdAt", t.getCreatedAt());
-        return tn;
+
+    /**
+     * Corpul unui câmp de răspuns scris direct pe un JsonGenerator.
+     */
+    @FunctionalInterface
+    protected interface JsonBody {
+        void write(JsonGenerator g) throws IOException;
     }
 
+    /**
+     * Scrie câmpul prin serializatoarele din JsonWriters într-un TokenBuffer, în loc să
+     * construiască un arbore de noduri; la scriere TokenBuffer-ul e redat token cu token
+     * prin pretty printer, deci output-ul e identic cu cel produs din ObjectNode.
+     * Bufferul trăiește doar până când App scrie răspunsul, imediat după comanda curentă
+     * (vezi OutputFormat.ResponseWriter), nu până la finalul rulării.
+     */
+    protected void putStreamed(final ObjectNode res, final String field, final JsonBody body) {
+        TokenBuffer buf = new TokenBuffer(mapper, false);
+        try {
+            body.write(buf);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        res.putPOJO(field, buf);
+    }
 
     protected Ticket getTicketWithId(TicketSystem system, User user, CommandInput input, List<ObjectNode> outputs) {
         int ticketID = input.getTicketID();
@@ -1,9 +1,9 @@
 package commands;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import models.HistoryEntry;
 import models.Status;
 import models.Ticket;
+import models.UndoJournal;
 import models.User;
 import services.TicketSystem;
 
@@ -28,15 +28,16 @@ public class ChangeStatus extends BaseCommand {
             return;
         }
 
-        ticket.setStatus(newStatus);
+        system.updateStatus(ticket, newStatus);
+        if (newStatus == Status.CLOSED) {
+            system.markClosed(ticket, input.getTimestamp());
+        }
 
-        HistoryEntry entry = new HistoryEntry();
-        entry.setAction("STATUS_CHANGED");
-        entry.setFrom(oldStatus.toString());
-        entry.setTo(newStatus.toString());
-        entry.setBy(user.getUsername());
-        entry.setTimestamp(input.getTimestamp());
-        ticket.addHistoryEntry(entry);
+        // Inversa, conform regulilor din UndoChangeStatus: RESOLVED -> IN_PROGRESS golește solvedAt
+        ticket.getUndoJournal().pushStatus(user.getUsername(),
+                new UndoJournal.StatusUndo(newStatus, oldStatus, newStatus == Status.RESOLVED));
+        system.getHistoryLog().statusChanged(ticket, input.getTimestamp(), user.getUsername(),
+                oldStatus, newStatus);
     }
 
 }
@@ -1,9 +1,6 @@
 package commands;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.databind.JsonNode;
-import lombok.Data;
-import lombok.NoArgsConstructor;
 
 import java.util.List;
 import lombok.Getter;
@@ -16,7 +13,8 @@ public class CommandInput {
     private String command;
     private String username;
     private String timestamp;
-    private JsonNode params;
+    // Payload-ul tipizat al lui reportTicket
+    private TicketParams params;
 
     // --- Fields for Milestone ---
     private String name;        // for createMilestone
@@ -32,5 +30,10 @@ public class CommandInput {
 
     private Integer ticketID;
 
-    private JsonNode filters;
+    private SearchFilters filters;
+
+    // --- Paginare opțională (viewTickets, search, viewTicketHistory) ---
+    private Integer limit;
+    private String cursor;
+    private List<String> fields;
 }
\ No newline at end of file
@@ -5,7 +5,6 @@ import models.*;
 import services.TicketSystem;
 
 import java.util.List;
-import java.util.Optional;
 
 public class CreateMilestone extends BaseCommand {
     public void execute(TicketSystem system, CommandInput input, User user, List<ObjectNode> outputs) {
@@ -24,9 +23,9 @@ public class CreateMilestone extends BaseCommand {
                     addError(outputs, input.getCommand(), input.getUsername(), "Ticket ID " + id + " does not exist.", input.getTimestamp());
                     return;
                 }
-                Optional<Milestone> assignedMilestone = system.getMilestones().stream().filter(m -> m.getTickets().contains(id)).findFirst();
-                if (assignedMilestone.isPresent()) {
-                    addError(outputs, input.getCommand(), input.getUsername(), "Tickets " + id + " already assigned to milestone " + assignedMilestone.get().getName() + ".", input.getTimestamp());
+                Milestone assignedMilestone = system.findMilestoneOfTicket(id);
+                if (assignedMilestone != null) {
+                    addError(outputs, input.getCommand(), input.getUsername(), "Tickets " + id + " already assigned to milestone " + assignedMilestone.getName() + ".", input.getTimestamp());
                     return;
                 }
             }
@@ -39,24 +38,14 @@ public class CreateMilestone extends BaseCommand {
         if (input.getTickets() != null) m.setTickets(input.getTickets());
         if (input.getAssignedDevs() != null) m.setAssignedDevs(input.getAssignedDevs());
         if (input.getBlockingFor() != null) m.setBlockingFor(input.getBlockingFor());
-        if (m.getBlockingFor() != null) {
-            for (String blockedName : m.getBlockingFor()) {
-                Milestone blockedM = system.findMilestoneByName(blockedName);
-                if (blockedM != null) blockedM.getDependsOn().add(m.getName());
-            }
-        }
         if (m.getTickets() != null) {
             for (Integer tid : m.getTickets()) {
                 Ticket t = system.getTickets().get(tid);
-                HistoryEntry h = new HistoryEntry();
-                h.setAction("ADDED_TO_MILESTONE");
-                h.setMilestone(m.getName());
-                h.setBy(user.getUsername());
-                h.setTimestamp(input.getTimestamp());
-                t.addHistoryEntry(h);
+                system.getHistoryLog().addedToMilestone(t, input.getTimestamp(), user.getUsername(), m.getName());
             }
         }
         system.addMilestone(m);
+        system.subscribeDevs(m);
         system.notifyDevs(m, "New milestone " + m.getName() + " has been created with due date " + m.getDueDate() + ".");
     }
 }
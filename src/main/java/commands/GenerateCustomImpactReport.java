@@ -5,23 +5,22 @@ import models.Status;
 import models.Ticket;
 import models.User;
 import services.TicketSystem;
+import utils.CompressedBitmap;
 import utils.Utils;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class GenerateCustomImpactReport extends BaseCommand {
     public void execute(TicketSystem system, CommandInput input, User user, List<ObjectNode> outputs) {
-        List<Ticket> eligibleTickets = system.getTickets().values().stream()
-                .filter(t -> t.getStatus() == Status.OPEN )
-                .collect(Collectors.toList());
+        CompressedBitmap eligible = system.getAttributeIndex().withStatus(Status.OPEN);
+        List<Ticket> eligibleTickets = system.ticketsOf(eligible);
 
         ObjectNode res = mapper.createObjectNode();
         res.put("command", "generateCustomerImpactReport");
         res.put("username", user.getUsername());
         res.put("timestamp", input.getTimestamp());
 
-        ObjectNode report = generateReport(eligibleTickets);
+        ObjectNode report = generateReport(system, eligible);
 
         // Customer Impact Calculation
         ObjectNode impactByType = mapper.createObjectNode();
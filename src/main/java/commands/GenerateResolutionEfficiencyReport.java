@@ -5,23 +5,23 @@ import models.Status;
 import models.Ticket;
 import models.User;
 import services.TicketSystem;
+import utils.CompressedBitmap;
 import utils.Utils;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class GenerateResolutionEfficiencyReport extends BaseCommand {
     public void execute(TicketSystem system, CommandInput input, User user, List<ObjectNode> outputs) {
-        List<Ticket> eligibleTickets = system.getTickets().values().stream()
-                .filter(t -> t.getStatus() == Status.RESOLVED || t.getStatus() == Status.CLOSED)
-                .collect(Collectors.toList());
+        CompressedBitmap eligible =
+                system.getAttributeIndex().withStatus(Status.RESOLVED, Status.CLOSED);
+        List<Ticket> eligibleTickets = system.ticketsOf(eligible);
 
         ObjectNode res = mapper.createObjectNode();
         res.put("command", "generateResolutionEfficiencyReport");
         res.put("username", user.getUsername());
         res.put("timestamp", input.getTimestamp());
 
-        ObjectNode report = generateReport(eligibleTickets);
+        ObjectNode report = generateReport(system, eligible);
 
         // efficiencyByType (average normalized)
         ObjectNode efficiencyByType = mapper.createObjectNode();
@@ -5,9 +5,9 @@ import models.Status;
 import models.Ticket;
 import models.User;
 import services.TicketSystem;
+import utils.CompressedBitmap;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static utils.Utils.avgRiskForType;
 import static utils.Utils.riskQualifier;
@@ -15,16 +15,16 @@ import static utils.Utils.riskQualifier;
 public class GenerateTicketReport extends BaseCommand{
     public void execute(TicketSystem system, CommandInput input, User user, List<ObjectNode> outputs) {
 
-        List<Ticket> eligibleTickets = system.getTickets().values().stream()
-                .filter(t -> t.getStatus() == Status.OPEN || t.getStatus() == Status.IN_PROGRESS)
-                .collect(Collectors.toList());
+        CompressedBitmap eligible =
+                system.getAttributeIndex().withStatus(Status.OPEN, Status.IN_PROGRESS);
+        List<Ticket> eligibleTickets = system.ticketsOf(eligible);
 
         ObjectNode res = mapper.createObjectNode();
         res.put("command", "generateTicketRiskReport");
         res.put("username", user.getUsername());
         res.put("timestamp", input.getTimestamp());
 
-        ObjectNode report = generateReport(eligibleTickets);
+        ObjectNode report = generateReport(system, eligible);
 
         // riskByType (average normalized score -> qualifier)
         ObjectNode riskByType = mapper.createObjectNode();
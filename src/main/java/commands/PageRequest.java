@@ -0,0 +1,109 @@
+package commands;
+
+import lombok.Getter;
+import models.Ticket;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Paginarea opțională (limit / cursor / fields) pentru viewTickets, search și viewTicketHistory.
+ * Cursorul e cheia (createdAt, id) a ultimului tichet întors, codificată base64url, deci
+ * rămâne stabil când apar tichete noi. Fără limit și cursor se întoarce tot rezultatul, ca înainte.
+ */
+@Getter
+public final class PageRequest {
+    private final Integer limit;
+    private final String afterCreatedAt;
+    private final Integer afterId;
+    private final List<String> fields;
+    // Setat de page(): cursorul paginii următoare, null dacă nu mai sunt rezultate
+    private String nextCursor;
+
+    private PageRequest(final Integer limit, final String afterCreatedAt, final Integer afterId,
+                        final List<String> fields) {
+        this.limit = limit;
+        this.afterCreatedAt = afterCreatedAt;
+        this.afterId = afterId;
+        this.fields = fields;
+    }
+
+    /**
+     * @throws IllegalArgumentException pentru un limit <= 0 sau un cursor invalid
+     */
+    public static PageRequest of(final CommandInput input) {
+        if (input.getLimit() != null && input.getLimit() <= 0) {
+            throw new IllegalArgumentException("Invalid limit.");
+        }
+        if (input.getCursor() == null) {
+            return new PageRequest(input.getLimit(), null, null, input.getFields());
+        }
+        try {
+            byte[] decoded = Base64.getUrlDecoder().decode(input.getCursor());
+            String key = new String(decoded, StandardCharsets.UTF_8);
+            int sep = key.lastIndexOf('#');
+            return new PageRequest(input.getLimit(), key.substring(0, sep),
+                    Integer.parseInt(key.substring(sep + 1)), input.getFields());
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+    }
+
+    /**
+     * @param t ultimul tichet dintr-o pagină
+     * @return cursorul care continuă după t
+     */
+    public static String cursorOf(final Ticket t) {
+        byte[] key = (t.getCreatedAt() + "#" + t.getId()).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key);
+    }
+
+    public boolean isPaged() {
+        return limit != null || afterId != null;
+    }
+
+    /**
+     * Dacă răspunsul trebuie să conțină câmpul dat (fără fields se întorc toate).
+     */
+    public boolean wants(final String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    /**
+     * Aplică cursorul și limita peste un stream deja ordonat. Stream-ul e consumat leneș:
+     * scanarea (și filtrele din amonte) se opresc după limit + 1 elemente.
+     *
+     * @param byId true dacă stream-ul e ordonat doar după id (viewTicketHistory)
+     */
+    public List<Ticket> page(final Stream<Ticket> ordered, final boolean byId) {
+        Stream<Ticket> rest = afterId == null
+                ? ordered
+                : ordered.dropWhile(t -> !isAfterCursor(t, byId));
+        if (limit == null) {
+            return rest.collect(Collectors.toList());
+        }
+
+        List<Ticket> result = rest.limit(limit + 1L)
+                .collect(Collectors.toCollection(ArrayList::new));
+        nextCursor = null;
+        if (result.size() > limit) {
+            result.remove(result.size() - 1);
+            nextCursor = cursorOf(result.get(result.size() - 1));
+        }
+        return result;
+    }
+
+    private boolean isAfterCursor(final Ticket t, final boolean byId) {
+        if (!byId) {
+            int cmp = t.getCreatedAt().compareTo(afterCreatedAt);
+            if (cmp != 0) {
+                return cmp > 0;
+            }
+        }
+        return t.getId() > afterId;
+    }
+}
@@ -1,8 +1,6 @@
 package commands;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import models.Priority;
 import models.Role;
 import models.Ticket;
 import models.User;
@@ -25,18 +23,15 @@ public class ReportTicket extends BaseCommand {
             addError(outputs, input.getCommand(), input.getUsername(), "The user does not have permission to execute this command: required role REPORTER; user role " + user.getRole(), input.getTimestamp());
             return;
         }
-        JsonNode params = input.getParams();
-        String reportedBy = params.has("reportedBy") ? params.get("reportedBy").asText() : "";
-        if (reportedBy.isEmpty()) {
-            String type = params.has("type") ? params.get("type").asText() : "";
-            if (!"BUG".equals(type)) {
+        TicketParams params = input.getParams();
+        if (params.reporter().isEmpty()) {
+            if (!(params instanceof TicketParams.Bug)) {
                 addError(outputs, input.getCommand(), input.getUsername(), "Anonymous reports are only allowed for tickets of type BUG.", input.getTimestamp());
                 return;
             }
         }
         int id = system.getNextTicketId();
         Ticket ticket =  TicketFactory.createTicket(params, id, input.getTimestamp());
-        if (ticket.getReportedBy().isEmpty()) ticket.setBusinessPriority(Priority.LOW);
-        system.getTickets().put(id, ticket);
+        system.addTicket(ticket);
     }
 }
@@ -1,119 +1,78 @@
 package commands;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import models.*;
+import services.DeveloperIndex;
+import services.KeywordIndex;
+import services.TicketAttributeIndex;
 import services.TicketSystem;
-import utils.Utils;
+import utils.CompressedBitmap;
+import utils.JsonWriters;
+import utils.KeywordMatcher;
+import utils.TicketFragments;
+import utils.ParallelScan;
 
-import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 public class Search extends BaseCommand {
 
-    private List<Developer> searchDevelopers(TicketSystem system, Manager manager, JsonNode filters) {
-        if (manager.getSubordinates() == null) return new ArrayList<>();
-
-        List<Developer> result = new ArrayList<>();
-        for (String subUsername : manager.getSubordinates()) {
-            User u = system.getUsers().get(subUsername);
-            if (u instanceof Developer) result.add((Developer) u);
-        }
-
-        if (filters == null) {
-            result.sort(Comparator.comparing(Developer::getUsername));
-            return result;
-        }
-
-        result = result.stream().filter(dev -> {
-            if (filters.has("expertiseArea") &&
-                    !dev.getExpertiseArea().toString().equals(filters.get("expertiseArea").asText()))
-                return false;
-
-            if (filters.has("seniority") &&
-                    !dev.getSeniority().toString().equals(filters.get("seniority").asText()))
-                return false;
-
-            if (filters.has("performanceScoreAbove")) {
-                double v = filters.get("performanceScoreAbove").asDouble();
-                return (dev.getPerformanceScore() <= v);
-            }
-
-            if (filters.has("performanceScoreBelow")) {
-                double v = filters.get("performanceScoreBelow").asDouble();
-                return (dev.getPerformanceScore() <= v);
-            }
-
-            return true;
-        }).collect(Collectors.toList());
-
-        result.sort(Comparator.comparing(Developer::getUsername));
-        return result;
+    private List<Developer> searchDevelopers(TicketSystem system, Manager manager, SearchPlan plan) {
+        DeveloperIndex index = system.developerIndexOf(manager.getUsername());
+        if (index == null || plan.isDeveloperImpossible()) return new ArrayList<>();
+        // Range scan pe scor în grupurile (expertiză, senioritate) cerute; rezultatul vine sortat după username
+        return index.query(plan.getExpertiseArea(), plan.getSeniority(), plan.scoreUpperBound());
     }
 
-    // --- NOTIFICATIONS ---
-    private List<String> getMatchingWords(Ticket t, List<String> keywords) {
-        Set<String> matched = new HashSet<>();
-        String text = (t.getTitle() + " " + (t.getDescription() == null ? "" : t.getDescription())).toLowerCase();
-        for (String k : keywords) {
-            if (text.contains(k.toLowerCase())) matched.add(k);
+    // Filtrul de keywords; umple keywordMatches (ticketId -> keyword-urile potrivite) pentru răspuns
+    private Predicate<Ticket> keywordFilter(TicketSystem system, SearchPlan plan,
+                                            Map<Integer, List<String>> keywordMatches, PageRequest page) {
+        KeywordMatcher matcher = plan.getKeywordMatcher();
+        if (matcher == null) return null;
+        KeywordIndex index = system.getKeywordIndex();
+        if (!page.isPaged()) {
+            // Se scanează oricum tot: potrivirile se calculează dintr-o dată, în paralel, din KeywordIndex
+            keywordMatches.putAll(index.match(matcher));
+            return t -> keywordMatches.containsKey(t.getId());
         }
-        List<String> result = new ArrayList<>(matched);
-        Collections.sort(result);
-        return result;
+        // Cu paginare fiecare tichet e verificat abia când ajunge la rând, deci scanarea se oprește la pagină plină
+        return t -> {
+            List<String> words = index.match(matcher, t.getId());
+            if (words.isEmpty()) return false;
+            keywordMatches.put(t.getId(), words);
+            return true;
+        };
     }
 
-
-    private List<Ticket> searchTickets(TicketSystem system, User user, JsonNode filters) {
-        List<Ticket> scope = new ArrayList<>();
+    private List<Ticket> searchTickets(TicketSystem system, User user, SearchPlan plan,
+                                       Map<Integer, List<String>> keywordMatches, PageRequest page) {
+        TicketAttributeIndex index = system.getAttributeIndex();
+        CompressedBitmap scope;
         if (user.getRole() == Role.MANAGER) {
-            scope = new ArrayList<>(system.getTickets().values());
+            scope = index.all();
         } else if (user.getRole() == Role.DEVELOPER) {
-            List<Milestone> devMilestones = system.getMilestones().stream().filter(m -> m.getAssignedDevs().contains(user.getUsername())).collect(Collectors.toList());
-            Set<Integer> validIds = new HashSet<>();
-            for (Milestone m : devMilestones) validIds.addAll(m.getTickets());
-            for (Ticket t : system.getTickets().values()) {
-                if (validIds.contains(t.getId()) && t.getStatus() == Status.OPEN) scope.add(t);
-            }
+            scope = system.openTicketsVisibleTo(user.getUsername());
         } else return new ArrayList<>();
 
-        if (filters == null) {
-            scope.sort(Comparator.comparing(Ticket::getCreatedAt).thenComparingInt(Ticket::getId));
-            return scope;
-        }
-        return scope.stream().filter(t -> {
-            if (filters.has("businessPriority") && !t.getBusinessPriority().toString().equals(filters.get("businessPriority").asText())) return false;
-            if (filters.has("type") && !t.getType().equals(filters.get("type").asText())) return false;
-            if (filters.has("createdAfter")) {
-                LocalDate tDate = LocalDate.parse(t.getCreatedAt());
-                LocalDate filterDate = LocalDate.parse(filters.get("createdAfter").asText());
-                if (!tDate.isAfter(filterDate)) return false;
-            }
-            if (filters.has("createdBefore")) {
-                LocalDate tDate = LocalDate.parse(t.getCreatedAt());
-                LocalDate filterDate = LocalDate.parse(filters.get("createdBefore").asText());
-                if (!tDate.isBefore(filterDate)) return false;
-            }
-            if (filters.has("keywords")) {
-                List<String> keywords = new ArrayList<>();
-                filters.get("keywords").forEach(k -> keywords.add(k.asText()));
-                if (getMatchingWords(t, keywords).isEmpty()) return false;
-            }
-            if (filters.has("availableForAssignment") && filters.get("availableForAssignment").asBoolean()) {
-                if (user.getRole() != Role.DEVELOPER) return false;
-                if (t.getStatus() != Status.OPEN) return false;
-                Optional<Milestone> mOpt = system.getMilestones().stream().filter(m -> m.getTickets().contains(t.getId())).findFirst();
-                if (mOpt.isEmpty() || system.isMilestoneBlocked(mOpt.get())) return false;
-                if (!system.canAccess((Developer) user, t)) return false;
-            }
-            return true;
-        }).sorted(Comparator.comparing(Ticket::getCreatedAt).thenComparingInt(Ticket::getId)).collect(Collectors.toList());
+        // Filtrele pe enum-uri se evaluează pe bitmap-uri, înainte de a atinge vreun Ticket
+        CompressedBitmap candidates = plan.narrow(index, scope);
+        Predicate<Ticket> matches = plan.ticketPredicate(system, user, keywordFilter(system, plan, keywordMatches, page));
+        // Candidații vin deja în ordinea (createdAt, id) din TicketOrderIndex. Fără paginare se scanează tot,
+        // pe bucăți fork-join; cu paginare stream-ul e leneș și se oprește la pagină plină
+        if (!page.isPaged()) return ParallelScan.filter(system.ticketsInOrder(candidates), matches);
+        return page.page(system.streamInOrder(candidates).filter(matches), false);
     }
+
     public void execute(TicketSystem system, CommandInput input, User user, List<ObjectNode> outputs) {
-        JsonNode filters = input.getFilters();
-        String searchType = filters != null && filters.has("searchType") ? filters.get("searchType").asText() : "TICKET";
+        PageRequest page;
+        try {
+            page = PageRequest.of(input);
+        } catch (IllegalArgumentException e) {
+            addError(outputs, "search", user.getUsername(), e.getMessage(), input.getTimestamp());
+            return;
+        }
+        SearchPlan plan = SearchPlan.compile(input.getFilters());
+        String searchType = plan.getSearchType();
 
         ObjectNode res = mapper.createObjectNode();
         res.put("command", "search");
@@ -121,40 +80,38 @@ public class Search extends BaseCommand {
         res.put("timestamp", input.getTimestamp());
         res.put("searchType", searchType);
 
-        ArrayNode resultsArr = mapper.createArrayNode();
-
         if ("DEVELOPER".equals(searchType)) {
-            if (user.getRole() == Role.MANAGER) {
-                List<Developer> devs = searchDevelopers(system, (Manager) user, filters);
+            List<Developer> devs = user.getRole() == Role.MANAGER
+                    ? searchDevelopers(system, (Manager) user, plan) : new ArrayList<>();
+            putStreamed(res, "results", g -> {
+                g.writeStartArray();
                 for (Developer d : devs) {
-                    ObjectNode dn = mapper.createObjectNode();
-                    dn.put("username", d.getUsername());
-                    dn.put("expertiseArea", d.getExpertiseArea().toString());
-                    dn.put("seniority", d.getSeniority().toString());
-                    dn.put("performanceScore", d.getPerformanceScore());
-                    dn.put("hireDate", d.getHireDate());
-                    resultsArr.add(dn);
+                    g.writeStartObject();
+                    g.writeStringField("username", d.getUsername());
+                    // Developerii fără expertiză / senioritate (grupul null din index) au câmpul null
+                    g.writeStringField("expertiseArea", Objects.toString(d.getExpertiseArea(), null));
+                    g.writeStringField("seniority", Objects.toString(d.getSeniority(), null));
+                    g.writeNumberField("performanceScore", d.getPerformanceScore());
+                    g.writeStringField("hireDate", d.getHireDate());
+                    g.writeEndObject();
                 }
-            }
+                g.writeEndArray();
+            });
         } else {
-            List<Ticket> tickets = searchTickets(system, user, filters);
-            for (Ticket t : tickets) {
-                ObjectNode tn = ticketObject(t);
-                tn.put("solvedAt", t.getSolvedAt() == null ? "" : t.getSolvedAt());
-                tn.put("reportedBy", t.getReportedBy());
-
-                if (filters != null && filters.has("keywords")) {
-                    List<String> keywords = new ArrayList<>();
-                    filters.get("keywords").forEach(k -> keywords.add(k.asText()));
-                    List<String> matched = getMatchingWords(t, keywords);
-                    if (!matched.isEmpty()) {
-                        tn.set("matchingWords", mapper.valueToTree(matched));
-                    }
+            Map<Integer, List<String>> keywordMatches = new HashMap<>();
+            List<Ticket> tickets = searchTickets(system, user, plan, keywordMatches, page);
+            putStreamed(res, "results", g -> {
+                g.writeStartArray();
+                for (Ticket t : tickets) {
+                    List<String> matched = keywordMatches.get(t.getId());
+                    // matchingWords diferă de la o cerere la alta, deci doar tichetele fără el vin din cache
+                    if (matched == null && page.getFields() == null) TicketFragments.write(g, t, TicketFragments.View.SEARCH);
+                    else JsonWriters.writeSearchTicket(g, t, page::wants, matched);
                 }
-                resultsArr.add(tn);
-            }
+                g.writeEndArray();
+            });
         }
-        res.set("results", resultsArr);
+        if (page.isPaged() && !"DEVELOPER".equals(searchType)) res.put("nextCursor", page.getNextCursor());
         outputs.add(res);
     }
 }
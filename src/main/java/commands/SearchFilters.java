@@ -0,0 +1,18 @@
+package commands;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Filtrele unui search, decodate direct din input. Valorile de enum și datele rămân
+ * string-uri: o valoare invalidă nu e o eroare de input, ci un filtru care nu potrivește
+ * nimic (vezi SearchPlan).
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SearchFilters(String searchType, String businessPriority, String type,
+                            String createdAfter, String createdBefore, List<String> keywords,
+                            Boolean availableForAssignment,
+                            String expertiseArea, String seniority,
+                            Double performanceScoreAbove, Double performanceScoreBelow) {
+}
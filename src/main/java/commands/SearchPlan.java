@@ -0,0 +1,198 @@
+package commands;
+
+import lombok.Getter;
+import models.Developer;
+import models.ExpertiseArea;
+import models.Milestone;
+import models.Priority;
+import models.Role;
+import models.Seniority;
+import models.Status;
+import models.Ticket;
+import models.User;
+import services.TicketAttributeIndex;
+import services.TicketSystem;
+import utils.CompressedBitmap;
+import utils.KeywordMatcher;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Filtrele unui search, compilate o singură dată din SearchFilters în valori tipizate.
+ * Filtrele pe enum-uri se aplică pe indexurile bitmap (narrow); restul devin predicate
+ * ordonate după cost: datele, apoi keyword-urile și la final verificarea de disponibilitate.
+ */
+@Getter
+public final class SearchPlan {
+    private String searchType = "TICKET";
+    // Un filtru cu o valoare care nu e un enum / o dată validă nu poate potrivi nimic
+    private boolean ticketImpossible;
+    private boolean developerImpossible;
+
+    // --- Filtre pentru tichete ---
+    private Priority businessPriority;
+    private String type;
+    private LocalDate createdAfter;
+    private LocalDate createdBefore;
+    private KeywordMatcher keywordMatcher;
+    private boolean availableForAssignment;
+
+    // --- Filtre pentru developeri ---
+    private ExpertiseArea expertiseArea;
+    private Seniority seniority;
+    private Double performanceScoreAbove;
+    private Double performanceScoreBelow;
+
+    private SearchPlan() {
+    }
+
+    /**
+     * @param filters filtrele din comandă (poate fi null)
+     * @return planul compilat; valorile invalide marchează căutarea ca imposibilă
+     */
+    public static SearchPlan compile(final SearchFilters filters) {
+        SearchPlan plan = new SearchPlan();
+        if (filters == null) {
+            return plan;
+        }
+
+        if (filters.searchType() != null) {
+            plan.searchType = filters.searchType();
+        }
+        if (filters.businessPriority() != null) {
+            plan.businessPriority = parseEnum(Priority.class, filters.businessPriority());
+            plan.ticketImpossible |= plan.businessPriority == null;
+        }
+        plan.type = filters.type();
+        if (filters.createdAfter() != null) {
+            plan.createdAfter = parseDate(filters.createdAfter());
+            plan.ticketImpossible |= plan.createdAfter == null;
+        }
+        if (filters.createdBefore() != null) {
+            plan.createdBefore = parseDate(filters.createdBefore());
+            plan.ticketImpossible |= plan.createdBefore == null;
+        }
+        if (filters.keywords() != null) {
+            plan.keywordMatcher = new KeywordMatcher(filters.keywords());
+        }
+        plan.availableForAssignment = Boolean.TRUE.equals(filters.availableForAssignment());
+
+        if (filters.expertiseArea() != null) {
+            plan.expertiseArea = parseEnum(ExpertiseArea.class, filters.expertiseArea());
+            plan.developerImpossible |= plan.expertiseArea == null;
+        }
+        if (filters.seniority() != null) {
+            plan.seniority = parseEnum(Seniority.class, filters.seniority());
+            plan.developerImpossible |= plan.seniority == null;
+        }
+        plan.performanceScoreAbove = filters.performanceScoreAbove();
+        plan.performanceScoreBelow = filters.performanceScoreBelow();
+        return plan;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(final Class<E> cls, final String value) {
+        try {
+            return Enum.valueOf(cls, value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static LocalDate parseDate(final String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Restrânge mulțimea de tichete folosind indexurile bitmap pentru filtrele pe atribute.
+     */
+    public CompressedBitmap narrow(final TicketAttributeIndex index, final CompressedBitmap scope) {
+        if (ticketImpossible) {
+            return new CompressedBitmap();
+        }
+        CompressedBitmap result = scope;
+        if (businessPriority != null) {
+            result = CompressedBitmap.and(result, index.withPriority(businessPriority));
+        }
+        if (type != null) {
+            result = CompressedBitmap.and(result, index.withType(type));
+        }
+        if (availableForAssignment) {
+            result = CompressedBitmap.and(result, index.withStatus(Status.OPEN));
+        }
+        return result;
+    }
+
+    /**
+     * Predicatul pentru verificările care nu au index (date, keywords, disponibilitate),
+     * aplicat doar candidaților rămași după narrow. keywordFilter e verificarea keyword-urilor
+     * (null dacă nu există filtru de keywords).
+     */
+    public Predicate<Ticket> ticketPredicate(final TicketSystem system, final User user,
+                                             final Predicate<Ticket> keywordFilter) {
+        if (ticketImpossible) {
+            return t -> false;
+        }
+        List<Predicate<Ticket>> checks = new ArrayList<>();
+
+        if (createdAfter != null || createdBefore != null) {
+            checks.add(t -> {
+                LocalDate tDate = LocalDate.parse(t.getCreatedAt());
+                if (createdAfter != null && !tDate.isAfter(createdAfter)) {
+                    return false;
+                }
+                return createdBefore == null || tDate.isBefore(createdBefore);
+            });
+        }
+        if (keywordFilter != null) {
+            checks.add(keywordFilter);
+        }
+        if (availableForAssignment) {
+            if (user.getRole() != Role.DEVELOPER) {
+                return t -> false;
+            }
+            Developer dev = (Developer) user;
+            checks.add(t -> {
+                Milestone m = system.findMilestoneOfTicket(t.getId());
+                if (m == null || system.isMilestoneBlocked(m)) {
+                    return false;
+                }
+                return system.canAccess(dev, t);
+            });
+        }
+        return and(checks);
+    }
+
+    /**
+     * Pragul superior pentru performanceScore în search-ul de developeri (null = fără filtru).
+     * Semantica existentă: "above" are prioritate, iar ambele păstrează scorurile <= prag.
+     */
+    public Double scoreUpperBound() {
+        return performanceScoreAbove != null ? performanceScoreAbove : performanceScoreBelow;
+    }
+
+    private static <T> Predicate<T> and(final List<Predicate<T>> checks) {
+        if (checks.isEmpty()) {
+            return x -> true;
+        }
+        if (checks.size() == 1) {
+            return checks.get(0);
+        }
+        List<Predicate<T>> ordered = List.copyOf(checks);
+        return x -> {
+            for (int i = 0; i < ordered.size(); i++) {
+                if (!ordered.get(i).test(x)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package commands;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import models.BusinessValue;
+import models.CustomerDemand;
+import models.ExpertiseArea;
+import models.Frequency;
+import models.Priority;
+import models.Severity;
+
+/**
+ * Parametrii lui reportTicket, decodați direct de Jackson în record-ul tipului de tichet
+ * (după câmpul "type"), fără un JsonNode intermediar. Un tip necunoscut sau lipsă ajunge
+ * în Unknown, iar TicketFactory îl respinge ca înainte.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.EXISTING_PROPERTY,
+        property = "type", visible = true, defaultImpl = TicketParams.Unknown.class)
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = TicketParams.Bug.class, name = "BUG"),
+        @JsonSubTypes.Type(value = TicketParams.FeatureRequest.class, name = "FEATURE_REQUEST"),
+        @JsonSubTypes.Type(value = TicketParams.UiFeedback.class, name = "UI_FEEDBACK")
+})
+public sealed interface TicketParams {
+    /**
+     * @return tipul tichetului (BUG, FEATURE_REQUEST, UI_FEEDBACK sau necunoscut)
+     */
+    String type();
+
+    /**
+     * @return titlul tichetului
+     */
+    String title();
+
+    /**
+     * @return descrierea, poate lipsi
+     */
+    String description();
+
+    /**
+     * @return aria de expertiză, null dacă lipsește sau e invalidă
+     */
+    ExpertiseArea expertiseArea();
+
+    /**
+     * @return prioritatea, null dacă lipsește sau e invalidă
+     */
+    Priority businessPriority();
+
+    /**
+     * @return reporterul, null sau "" pentru un raport anonim
+     */
+    String reportedBy();
+
+    /**
+     * reportedBy lipsă înseamnă raport anonim.
+     */
+    default String reporter() {
+        return reportedBy() == null ? "" : reportedBy();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Bug(String type, String title, String description, ExpertiseArea expertiseArea,
+               Priority businessPriority, String reportedBy,
+               String expectedBehavior, String actualBehavior, Frequency frequency,
+               Severity severity, String environment, Integer errorCode)
+            implements TicketParams {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record FeatureRequest(String type, String title, String description,
+                          ExpertiseArea expertiseArea, Priority businessPriority,
+                          String reportedBy, BusinessValue businessValue,
+                          CustomerDemand customerDemand) implements TicketParams {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record UiFeedback(String type, String title, String description, ExpertiseArea expertiseArea,
+                      Priority businessPriority, String reportedBy,
+                      String uiElementId, BusinessValue businessValue, Integer usabilityScore,
+                      String screenshotUrl, String suggestedFix) implements TicketParams {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Unknown(String type, String title, String description, ExpertiseArea expertiseArea,
+                   Priority businessPriority, String reportedBy) implements TicketParams {
+    }
+}
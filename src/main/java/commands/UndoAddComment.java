@@ -1,7 +1,6 @@
 package commands;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import models.Comment;
 import models.Role;
 import models.Ticket;
 import models.User;
@@ -22,12 +21,10 @@ public class UndoAddComment extends BaseCommand {
             addError(outputs, input.getCommand(), input.getUsername(), "Reporter " + user.getUsername() + " cannot comment on ticket " + ticketId + ".", input.getTimestamp());
             return;
         }
-        List<Comment> comments = ticket.getComments();
-        for (int i = comments.size() - 1; i >= 0; i--) {
-            if (comments.get(i).getAuthor().equals(user.getUsername())) {
-                comments.remove(i);
-                return;
-            }
+        // Ultimul comentariu al userului vine din jurnal; ștergerea lasă un tombstone, fără shift
+        int slot = ticket.getUndoJournal().popComment(user.getUsername(), ticket);
+        if (slot >= 0) {
+            ticket.removeComment(slot);
         }
     }
 }
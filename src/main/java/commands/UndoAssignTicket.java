@@ -12,13 +12,17 @@ public class UndoAssignTicket extends BaseCommand{
         Integer ticketId = input.getTicketID();
         Ticket ticket = system.getTickets().get(ticketId);
         if (ticket == null || !user.getUsername().equals(ticket.getAssignedTo())) return;
-        ticket.setAssignedTo(null);
-        ticket.setAssignedAt(null);
-        ticket.setStatus(Status.OPEN);
-        HistoryEntry entry = new HistoryEntry();
-        entry.setAction("DE-ASSIGNED");
-        entry.setBy(user.getUsername());
-        entry.setTimestamp(input.getTimestamp());
-        ticket.addHistoryEntry(entry);
+        // Fără înregistrare în jurnal (asignare nefăcută prin assignTicket) se aplică regula:
+        // dezasignare + OPEN
+        UndoJournal.AssignmentUndo undo = ticket.getUndoJournal().popAssignment(user.getUsername());
+        if (undo == null) {
+            undo = new UndoJournal.AssignmentUndo(null, null, Status.OPEN);
+        }
+        system.clearClosed(ticket);
+        system.setAssignee(ticket, undo.getAssignee());
+        ticket.setAssignedAt(undo.getAssignedAt());
+        system.updateStatus(ticket, undo.getStatus());
+        system.getHistoryLog().record(ticket, input.getTimestamp(), HistoryAction.DE_ASSIGNED,
+                user.getUsername());
     }
 }
@@ -1,9 +1,9 @@
 package commands;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import models.HistoryEntry;
 import models.Status;
 import models.Ticket;
+import models.UndoJournal;
 import models.User;
 import services.TicketSystem;
 
@@ -22,7 +22,16 @@ public class UndoChangeStatus extends BaseCommand {
         if (oldStatus == Status.IN_PROGRESS) return;
 
         Status newStatus;
-        if (oldStatus == Status.CLOSED) {
+        // Întâi inversa înregistrată de ChangeStatus; dacă nu mai corespunde statusului,
+        // regulile de mai jos
+        UndoJournal.StatusUndo undo =
+                ticket.getUndoJournal().popStatus(user.getUsername(), oldStatus);
+        if (undo != null) {
+            newStatus = undo.getRestore();
+            if (undo.isClearSolvedAt()) {
+                ticket.setSolvedAt(null);
+            }
+        } else if (oldStatus == Status.CLOSED) {
             newStatus = Status.RESOLVED;
             // IMPORTANT: NU atingi solvedAt
         } else if (oldStatus == Status.RESOLVED) {
@@ -33,15 +42,13 @@ public class UndoChangeStatus extends BaseCommand {
             return; // OPEN sau orice altceva -> ignorat
         }
 
-        ticket.setStatus(newStatus);
+        if (oldStatus == Status.CLOSED) {
+            system.clearClosed(ticket);
+        }
+        system.updateStatus(ticket, newStatus);
 
-        HistoryEntry entry = new HistoryEntry();
-        entry.setAction("STATUS_CHANGED");
-        entry.setFrom(oldStatus.toString());
-        entry.setTo(newStatus.toString());
-        entry.setBy(user.getUsername());
-        entry.setTimestamp(input.getTimestamp());
-        ticket.addHistoryEntry(entry);
+        system.getHistoryLog().statusChanged(ticket, input.getTimestamp(), user.getUsername(),
+                oldStatus, newStatus);
     }
 
 
@@ -1,11 +1,12 @@
 package commands;
 
-import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import models.*;
 import services.TicketSystem;
-import utils.Utils;
+import utils.JsonWriters;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -34,95 +35,83 @@ public class ViewMilestones extends BaseCommand {
         res.put("username", user.getUsername());
         res.put("timestamp", input.getTimestamp());
 
-        ArrayNode arr = mapper.createArrayNode();
         LocalDate now = LocalDate.parse(input.getTimestamp());
+        List<Milestone> milestones = visible;
 
-        for (Milestone m : visible) {
-            ObjectNode mn = mapper.createObjectNode();
-            mn.put("name", m.getName());
-            mn.set("blockingFor", mapper.valueToTree(m.getBlockingFor()));
-            mn.put("dueDate", m.getDueDate());
-            mn.put("createdAt", m.getCreatedAt());
-            mn.set("tickets", mapper.valueToTree(m.getTickets()));
-            mn.set("assignedDevs", mapper.valueToTree(m.getAssignedDevs()));
-            mn.put("createdBy", m.getCreatedBy());
-
-            boolean allClosed = true;
-            List<Integer> openTickets = new ArrayList<>();
-            List<Integer> closedTickets = new ArrayList<>();
-
-            // IMPORTANT: milestone completion date = data când ultimul ticket a devenit CLOSED
-            LocalDate lastClosedDate = null;
-
-            for (Integer id : m.getTickets()) {
-                Ticket t = system.getTickets().get(id);
-
-                if (t.getStatus() != Status.CLOSED) {
-                    allClosed = false;
-                    openTickets.add(id);
-                } else {
-                    closedTickets.add(id);
-                    LocalDate closedAt = Utils.whereClosed(t); // ia data din history pe STATUS_CHANGED -> CLOSED
-                    if (lastClosedDate == null || closedAt.isAfter(lastClosedDate)) {
-                        lastClosedDate = closedAt;
-                    }
-                }
+        putStreamed(res, "milestones", g -> {
+            g.writeStartArray();
+            for (Milestone m : milestones) {
+                writeMilestone(g, system, m, now);
             }
+            g.writeEndArray();
+        });
+        outputs.add(res);
+    }
 
-            mn.put("status", (allClosed && !m.getTickets().isEmpty()) ? "COMPLETED" : "ACTIVE");
-
-            boolean isBlocked = system.isMilestoneBlocked(m);
-            mn.put("isBlocked", isBlocked);
-
-            LocalDate due = LocalDate.parse(m.getDueDate());
-
-            if (allClosed && lastClosedDate != null) {
-                // COMPLETED: overdueBy = max(0, (lastClosedDate - due) + 1)
-                long overdue = ChronoUnit.DAYS.between(due, lastClosedDate) + 1;
-                mn.put("daysUntilDue", 0);
-                mn.put("overdueBy", Math.max(0, overdue));
+    private void writeMilestone(final JsonGenerator g, final TicketSystem system,
+                                final Milestone m, final LocalDate now) throws IOException {
+        g.writeStartObject();
+        g.writeStringField("name", m.getName());
+        g.writeFieldName("blockingFor");
+        JsonWriters.writeStrings(g, m.getBlockingFor());
+        g.writeStringField("dueDate", m.getDueDate());
+        g.writeStringField("createdAt", m.getCreatedAt());
+        g.writeFieldName("tickets");
+        JsonWriters.writeInts(g, m.getTickets());
+        g.writeFieldName("assignedDevs");
+        JsonWriters.writeStrings(g, m.getAssignedDevs());
+        g.writeStringField("createdBy", m.getCreatedBy());
+
+        // Sumarul e ținut la zi incremental de TicketSystem
+        MilestoneSummary summary = m.getSummary();
+        boolean allClosed = summary.isComplete();
+        LocalDate lastClosedDate = summary.getLastClosedDay() == null
+                ? null : LocalDate.ofEpochDay(summary.getLastClosedDay());
+
+        g.writeStringField("status",
+                (allClosed && !m.getTickets().isEmpty()) ? "COMPLETED" : "ACTIVE");
+        g.writeBooleanField("isBlocked", system.isMilestoneBlocked(m));
+
+        LocalDate due = LocalDate.parse(m.getDueDate());
+
+        if (allClosed && lastClosedDate != null) {
+            // COMPLETED: overdueBy = max(0, (lastClosedDate - due) + 1)
+            long overdue = ChronoUnit.DAYS.between(due, lastClosedDate) + 1;
+            g.writeNumberField("daysUntilDue", 0);
+            g.writeNumberField("overdueBy", Math.max(0, overdue));
+        } else {
+            // ACTIVE: daysUntilDue / overdueBy față de "now"
+            long diff = ChronoUnit.DAYS.between(now, due);
+            if (diff < 0) {
+                g.writeNumberField("daysUntilDue", 0);
+                g.writeNumberField("overdueBy", Math.abs(diff) + 1);
             } else {
-                // ACTIVE: daysUntilDue / overdueBy față de "now"
-                long diff = ChronoUnit.DAYS.between(now, due);
-                if (diff < 0) {
-                    mn.put("daysUntilDue", 0);
-                    mn.put("overdueBy", Math.abs(diff) + 1);
-                } else {
-                    mn.put("daysUntilDue", diff + 1);
-                    mn.put("overdueBy", 0);
-                }
+                g.writeNumberField("daysUntilDue", diff + 1);
+                g.writeNumberField("overdueBy", 0);
             }
+        }
 
-            mn.set("openTickets", mapper.valueToTree(openTickets));
-            mn.set("closedTickets", mapper.valueToTree(closedTickets));
-
-            double ratio = m.getTickets().isEmpty() ? 0.0 : ((double) closedTickets.size() / m.getTickets().size());
-            mn.put("completionPercentage", Math.round(ratio * 100.0) / 100.0);
-
-            ArrayNode rep = mapper.createArrayNode();
-            if (m.getAssignedDevs() != null) {
-                for (String dev : m.getAssignedDevs()) {
-                    ObjectNode dn = mapper.createObjectNode();
-                    dn.put("developer", dev);
-
-                    List<Integer> tids = new ArrayList<>();
-                    for (Integer id : m.getTickets()) {
-                        Ticket t = system.getTickets().get(id);
-                        if (t != null && dev.equals(t.getAssignedTo())) {
-                            tids.add(id);
-                        }
-                    }
-                    dn.set("assignedTickets", mapper.valueToTree(tids));
-                    rep.add(dn);
-                }
+        g.writeFieldName("openTickets");
+        JsonWriters.writeInts(g, summary.getOpenTickets());
+        g.writeFieldName("closedTickets");
+        JsonWriters.writeInts(g, summary.getClosedTickets());
+
+        double ratio = m.getTickets().isEmpty()
+                ? 0.0 : ((double) summary.getClosedCount() / m.getTickets().size());
+        g.writeNumberField("completionPercentage", round2(ratio));
+
+        g.writeFieldName("repartition");
+        g.writeStartArray();
+        if (m.getAssignedDevs() != null) {
+            for (String dev : m.getAssignedDevs()) {
+                g.writeStartObject();
+                g.writeStringField("developer", dev);
+                g.writeFieldName("assignedTickets");
+                JsonWriters.writeInts(g, summary.getTicketsAssignedTo(dev));
+                g.writeEndObject();
             }
-            mn.set("repartition", rep);
-
-            arr.add(mn);
         }
-
-        res.set("milestones", arr);
-        outputs.add(res);
-
+        g.writeEndArray();
+        g.writeEndObject();
     }
 }
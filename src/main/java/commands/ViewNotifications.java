@@ -13,9 +13,9 @@ public class ViewNotifications extends BaseCommand {
         res.put("command", "viewNotifications");
         res.put("username", user.getUsername());
         res.put("timestamp", input.getTimestamp());
-        ArrayNode notifs = mapper.valueToTree(user.getNotifications());
+        ArrayNode notifs = mapper.createArrayNode();
+        user.getNotifications().drain(notifs::add);
         res.set("notifications", notifs);
-        user.clearNotifications();
         outputs.add(res);
     }
 }
@@ -1,56 +1,75 @@
 package commands;
 
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import models.HistoryEntry;
-import models.Role;
 import models.Ticket;
 import models.User;
 import services.TicketSystem;
+import utils.JsonWriters;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class ViewTicketHistory extends BaseCommand {
     public void execute(TicketSystem system, CommandInput input, User user, List<ObjectNode> outputs) {
-        List<Ticket> userTickets = system.getTickets().values().stream()
-                .filter(t -> user.getUsername().equals(t.getAssignedTo()))
-                .sorted(Comparator.comparingInt(Ticket::getId))
-                .collect(Collectors.toList());
-
-        if (user.getRole() == Role.DEVELOPER) {
-            List<Ticket> historical = system.getTickets().values().stream()
-                    .filter(t -> !userTickets.contains(t) && t.getHistory().stream()
-                            .anyMatch(h -> "ASSIGNED".equals(h.getAction()) && user.getUsername().equals(h.getBy())))
-                    .sorted(Comparator.comparingInt(Ticket::getId))
-                    .collect(Collectors.toList());
-            userTickets.addAll(historical);
-            userTickets.sort(Comparator.comparingInt(Ticket::getId));
+        PageRequest page;
+        try {
+            page = PageRequest.of(input);
+        } catch (IllegalArgumentException e) {
+            addError(outputs, "viewTicketHistory", user.getUsername(), e.getMessage(),
+                    input.getTimestamp());
+            return;
         }
 
+        // Doar tichetele atinse de user (asignate acum sau asignate vreodată de developer),
+        // deja în ordinea id-urilor
+        Stream<Ticket> byId = Arrays.stream(system.ticketsTouchedBy(user).toArray())
+                .mapToObj(id -> system.getTickets().get(id));
+        List<Ticket> userTickets = page.page(byId, true);
+
         ObjectNode res = mapper.createObjectNode();
         res.put("command", "viewTicketHistory");
         res.put("username", user.getUsername());
         res.put("timestamp", input.getTimestamp());
 
-        ArrayNode historyArr = mapper.createArrayNode();
         Set<String> allowedActions = new HashSet<>(Arrays.asList(
                 "ASSIGNED", "DE-ASSIGNED", "STATUS_CHANGED", "ADDED_TO_MILESTONE", "REMOVED_FROM_DEV"
         ));
 
-        for (Ticket t : userTickets) {
-            ObjectNode tNode = mapper.createObjectNode();
-            tNode.put("id", t.getId());
-            tNode.put("title", t.getTitle());
-            tNode.put("status", t.getStatus().toString());
-            List<HistoryEntry> filteredHistory = t.getHistory().stream()
-                    .filter(h -> allowedActions.contains(h.getAction()))
-                    .collect(Collectors.toList());
-            tNode.set("actions", mapper.valueToTree(filteredHistory));
-            tNode.set("comments", mapper.valueToTree(t.getComments()));
-            historyArr.add(tNode);
+        putStreamed(res, "ticketHistory", g -> {
+            g.writeStartArray();
+            for (Ticket t : userTickets) {
+                g.writeStartObject();
+                if (page.wants("id")) {
+                    g.writeNumberField("id", t.getId());
+                }
+                if (page.wants("title")) {
+                    g.writeStringField("title", t.getTitle());
+                }
+                if (page.wants("status")) {
+                    g.writeStringField("status", t.getStatus().toString());
+                }
+                if (page.wants("actions")) {
+                    g.writeFieldName("actions");
+                    g.writeStartArray();
+                    for (HistoryEntry h : t.getHistory()) {
+                        if (allowedActions.contains(h.getAction())) {
+                            JsonWriters.writeHistoryEntry(g, h);
+                        }
+                    }
+                    g.writeEndArray();
+                }
+                if (page.wants("comments")) {
+                    g.writeFieldName("comments");
+                    JsonWriters.writeComments(g, t.getComments());
+                }
+                g.writeEndObject();
+            }
+            g.writeEndArray();
+        });
+        if (page.isPaged()) {
+            res.put("nextCursor", page.getNextCursor());
         }
-        res.set("ticketHistory", historyArr);
         outputs.add(res);
     }
 }
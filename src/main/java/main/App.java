@@ -1,18 +1,20 @@
 package main;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
-import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import commands.CommandInput;
 import models.User;
+import services.CommandLogParser;
 import services.CommandRunner;
+import services.ParallelCommandReader;
 import services.TicketSystem;
+import utils.JsonContext;
+import utils.MappedInput;
+import utils.OutputFormat;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -27,10 +29,7 @@ public class App {
     }
 
     private static final String INPUT_USERS_PATH = "input/database/users.json";
-
-    // Configurare Writer pentru a scrie JSON-ul final frumos formatat
-    private static final ObjectWriter WRITER =
-            new ObjectMapper().writer().withDefaultPrettyPrinter();
+    private static final long DISPATCH_FLUSH_MS = 5_000;
 
     /**
      * Rulează aplicația: citește comenzi, le procesează și scrie rezultatul.
@@ -39,19 +38,32 @@ public class App {
      * @param outputPath calea către fișierul de ieșire
      */
     public static void run(final String inputPath, final String outputPath) {
-        // Aceasta este lista în care vom adăuga rezultatele JSON ale comenzilor
+        // Formatul e ales cu -Doutput.format (implicit JSON pretty, formatul checker-ului);
+        // o valoare invalidă oprește rularea înainte de prima comandă
+        OutputFormat format = OutputFormat.active();
+
+        File outputFile = new File(outputPath);
+        if (outputFile.getParentFile() != null) {
+            outputFile.getParentFile().mkdirs();
+        }
+        // Răspunsurile sunt scrise în fișier după fiecare comandă, nu păstrate toate până la final
+        try (OutputFormat.ResponseWriter out = format.open(outputFile)) {
+            process(inputPath, out);
+        } catch (IOException | UncheckedIOException e) {
+            System.out.println("Eroare la scrierea fișierului de output: " + e.getMessage());
+        }
+    }
+
+    private static void process(final String inputPath, final OutputFormat.ResponseWriter out) {
+        // Aceasta este lista în care comenzile adaugă rezultatele JSON;
+        // e golită după fiecare comandă
         List<ObjectNode> outputs = new ArrayList<>();
 
         try {
             // ---------------------------------------------------------
-            // 1. Configurare Jackson (Parser JSON)
+            // 1. Configurare Jackson: mapper-ul comun din JsonContext
+            //    (JavaTimeModule, reader-e pre-rezolvate pentru comenzi și useri)
             // ---------------------------------------------------------
-            ObjectMapper mapper = new ObjectMapper();
-
-            // Avem nevoie de JavaTimeModule pentru a parsa corect LocalDate ("yyyy-MM-dd")
-            mapper.registerModule(new JavaTimeModule());
-            // Dezactivăm scrierea datelor ca timestamp numeric (vrem string-uri)
-            mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
             // ---------------------------------------------------------
             // 2. Inițializare și Resetare Sistem (Singleton)
@@ -68,44 +80,65 @@ public class App {
             if (usersFile.exists()) {
                 // Citim lista de useri. Jackson va ști să creeze Developer/Manager/Reporter
                 // pe baza adnotărilor din clasa User (pe care o vom face imediat).
-                List<User> users = mapper.readValue(
-                        usersFile,
-                        new TypeReference<List<User>>() {}
-                );
+                // Fișierul e mapat în memorie și citit direct de parser (vezi MappedInput)
+                List<User> users;
+                try (InputStream in = MappedInput.open(usersFile.toPath())) {
+                    users = JsonContext.USERS_READER.readValue(in);
+                }
                 ticketSystem.loadUsers(users);
             }
 
             // ---------------------------------------------------------
-            // 4. Citire Comenzi
-            // ---------------------------------------------------------
-            File commandsFile = new File(inputPath);
-            List<CommandInput> commands = mapper.readValue(
-                    commandsFile,
-                    new TypeReference<List<CommandInput>>() {}
-            );
-
-            // ---------------------------------------------------------
-            // 5. Procesare Comenzi (Design Pattern: Command / Delegate)
+            // 4-5. Citire și Procesare Comenzi (Design Pattern: Command / Delegate)
             // ---------------------------------------------------------
+            // Comenzile sunt citite pe rând de parser-ul de streaming, în același obiect reutilizat
             CommandRunner commandRunner = new CommandRunner();
 
-            for (CommandInput command : commands) {
-                // Delegăm execuția. CommandRunner va popula lista 'outputs'.
-                commandRunner.execute(command, outputs);
+            File commandsFile = new File(inputPath);
+            if (commandsFile.isFile() && commandsFile.length() >= ParallelCommandReader.THRESHOLD) {
+                // Fișierele mari sunt parsate pe bucăți în paralel;
+                // execuția rămâne în ordinea din fișier
+                new ParallelCommandReader(commandsFile.toPath()).forEach(command -> {
+                    commandRunner.execute(command, outputs);
+                    drain(outputs, out);
+                });
+            } else {
+                // Pipe-urile (ex. /dev/stdin) nu pot fi mapate și sunt citite bufferizat
+                try (CommandLogParser parser =
+                             new CommandLogParser(MappedInput.open(commandsFile.toPath()))) {
+                    CommandInput command;
+                    while ((command = parser.next()) != null) {
+                        // Delegăm execuția. CommandRunner va popula lista 'outputs'.
+                        commandRunner.execute(command, outputs);
+                        drain(outputs, out);
+                    }
+                }
             }
 
         } catch (IOException e) {
             e.printStackTrace();
         }
 
+        // Lăsăm sink-urile de notificări (dacă sunt configurate) să livreze ce a rămas
+        // în coadă, apoi le închidem
+        TicketSystem.getInstance().getDispatcher().close(DISPATCH_FLUSH_MS);
+    }
+
+    /**
+     * Scrie răspunsurile ultimei comenzi și golește lista.
+     *
+     * @throws UncheckedIOException dacă scrierea eșuează (apelat și din consumatorul
+     *         lui ParallelCommandReader)
+     */
+    private static void drain(final List<ObjectNode> outputs,
+                              final OutputFormat.ResponseWriter out) {
         try {
-            File outputFile = new File(outputPath);
-            if (outputFile.getParentFile() != null) {
-                outputFile.getParentFile().mkdirs();
+            for (ObjectNode res : outputs) {
+                out.write(res);
             }
-            WRITER.writeValue(outputFile, outputs);
         } catch (IOException e) {
-            System.out.println("Eroare la scrierea fișierului de output: " + e.getMessage());
+            throw new UncheckedIOException(e);
         }
+        outputs.clear();
     }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package main;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import utils.JsonContext;
+import utils.OutputFormat;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Convertește un output scris cu -Doutput.format=compact|ndjson|smile|cbor înapoi în JSON-ul
+ * pretty de referință, ca să poată fi comparat cu fișierele din ref/.
+ * Utilizare: OutputConverter <format> <fișier de intrare> <fișier JSON de ieșire>
+ */
+public final class OutputConverter {
+    private static final int ARGS = 3;
+
+    private OutputConverter() {
+    }
+
+    /**
+     * @param args formatul, fișierul de intrare și fișierul JSON de ieșire
+     * @throws IOException dacă fișierul de intrare nu poate fi citit sau cel de ieșire scris
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != ARGS) {
+            System.out.println("Usage: OutputConverter <pretty|compact|ndjson|smile|cbor>"
+                    + " <input> <output.json>");
+            return;
+        }
+        ArrayNode responses = OutputFormat.parse(args[0]).read(new File(args[1]));
+        File outputFile = new File(args[2]);
+        if (outputFile.getParentFile() != null) {
+            outputFile.getParentFile().mkdirs();
+        }
+        JsonContext.PRETTY_WRITER.writeValue(outputFile, responses);
+    }
+}
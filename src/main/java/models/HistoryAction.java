@@ -0,0 +1,24 @@
+package models;
+
+import lombok.Getter;
+
+/**
+ * Tipurile de evenimente din istoricul unui tichet, cu eticheta din output.
+ */
+@Getter
+public enum HistoryAction {
+    ADDED_TO_MILESTONE("ADDED_TO_MILESTONE"),
+    ASSIGNED("ASSIGNED"),
+    DE_ASSIGNED("DE-ASSIGNED"),
+    STATUS_CHANGED("STATUS_CHANGED"),
+    PRIORITY_ESCALATION("PRIORITY_ESCALATION"),
+    DEADLINE_IMMINENT_ESCALATION("DEADLINE_IMMINENT_ESCALATION"),
+    AUTO_UNASSIGN("AUTO_UNASSIGN"),
+    MILESTONE_UNBLOCKED("MILESTONE_UNBLOCKED");
+
+    private final String label;
+
+    HistoryAction(final String label) {
+        this.label = label;
+    }
+}
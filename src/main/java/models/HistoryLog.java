@@ -0,0 +1,234 @@
+package models;
+
+import utils.SymbolTable;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Istoricul tuturor tichetelor, append-only, ținut în vectori de primitive: un eveniment e
+ * (ticketId, epochDay, acțiune, actor, from, to, milestone) plus legătura spre următorul
+ * eveniment al aceluiași tichet. Descrierile și HistoryEntry-urile se construiesc doar la output.
+ */
+public final class HistoryLog {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int NONE = -1;
+    private static final int NO_DAY = Integer.MIN_VALUE;
+    private static final HistoryAction[] ACTIONS = HistoryAction.values();
+
+    private final SymbolTable symbols;
+
+    private int size;
+    private int[] ticketIds = new int[INITIAL_CAPACITY];
+    private int[] days = new int[INITIAL_CAPACITY];
+    private byte[] actions = new byte[INITIAL_CAPACITY];
+    private int[] actors = new int[INITIAL_CAPACITY];
+    // Codurile from / to: ordinal de Status pentru STATUS_CHANGED, de Priority pentru escaladări
+    private byte[] from = new byte[INITIAL_CAPACITY];
+    private byte[] to = new byte[INITIAL_CAPACITY];
+    private int[] milestones = new int[INITIAL_CAPACITY];
+    private int[] next = new int[INITIAL_CAPACITY];
+
+    // ticketId -> primul / ultimul eveniment al tichetului
+    private int[] first = new int[0];
+    private int[] last = new int[0];
+    private int[] counts = new int[0];
+
+    public HistoryLog(final SymbolTable symbols) {
+        this.symbols = symbols;
+    }
+
+    /**
+     * Un eveniment fără from / to / milestone (ASSIGNED, DE-ASSIGNED, MILESTONE_UNBLOCKED etc.).
+     *
+     * @param t         tichetul
+     * @param timestamp data evenimentului (poate fi null)
+     * @param action    acțiunea
+     * @param by        actorul
+     */
+    public void record(final Ticket t, final String timestamp, final HistoryAction action,
+                       final String by) {
+        append(t.getId(), timestamp, action, by, NONE, NONE, null);
+    }
+
+    /**
+     * @param t         tichetul
+     * @param timestamp data schimbării
+     * @param by        actorul
+     * @param oldStatus statusul anterior
+     * @param newStatus statusul nou
+     */
+    public void statusChanged(final Ticket t, final String timestamp, final String by,
+                              final Status oldStatus, final Status newStatus) {
+        append(t.getId(), timestamp, HistoryAction.STATUS_CHANGED, by,
+                oldStatus.ordinal(), newStatus.ordinal(), null);
+    }
+
+    /**
+     * @param t         tichetul
+     * @param timestamp data creării milestone-ului
+     * @param by        managerul care a creat milestone-ul
+     * @param milestone numele milestone-ului
+     */
+    public void addedToMilestone(final Ticket t, final String timestamp, final String by,
+                                 final String milestone) {
+        append(t.getId(), timestamp, HistoryAction.ADDED_TO_MILESTONE, by, NONE, NONE, milestone);
+    }
+
+    /**
+     * @param t         tichetul escaladat
+     * @param timestamp data escaladării
+     * @param milestone milestone-ul în care a stat tichetul
+     * @param priority  prioritatea nouă
+     */
+    public void priorityEscalation(final Ticket t, final String timestamp, final String milestone,
+                                   final Priority priority) {
+        append(t.getId(), timestamp, HistoryAction.PRIORITY_ESCALATION, "SYSTEM",
+                NONE, priority.ordinal(), milestone);
+    }
+
+    /**
+     * @param t         tichetul de-asignat automat
+     * @param timestamp data de-asignării
+     * @param priority  prioritatea care depășește senioritatea developerului
+     */
+    public void autoUnassign(final Ticket t, final String timestamp, final Priority priority) {
+        append(t.getId(), timestamp, HistoryAction.AUTO_UNASSIGN, "SYSTEM", NONE,
+                priority == null ? NONE : priority.ordinal(), null);
+    }
+
+    private void append(final int ticketId, final String timestamp, final HistoryAction action,
+                        final String by, final int fromCode, final int toCode,
+                        final String milestone) {
+        if (size == ticketIds.length) {
+            grow();
+        }
+        ticketIds[size] = ticketId;
+        days[size] = timestamp == null ? NO_DAY : (int) LocalDate.parse(timestamp).toEpochDay();
+        actions[size] = (byte) action.ordinal();
+        actors[size] = symbols.intern(by);
+        from[size] = (byte) fromCode;
+        to[size] = (byte) toCode;
+        milestones[size] = symbols.intern(milestone);
+        next[size] = NONE;
+
+        ensureTicket(ticketId);
+        if (last[ticketId] == NONE) {
+            first[ticketId] = size;
+        } else {
+            next[last[ticketId]] = size;
+        }
+        last[ticketId] = size;
+        counts[ticketId]++;
+        size++;
+    }
+
+    /**
+     * Șterge tot istoricul (la reset-ul sistemului).
+     */
+    public void clear() {
+        size = 0;
+        first = new int[0];
+        last = new int[0];
+        counts = new int[0];
+    }
+
+    /**
+     * Vedere read-only peste evenimentele tichetului, în ordinea înregistrării.
+     */
+    public List<HistoryEntry> entriesOf(final int ticketId) {
+        int[] records = recordsOf(ticketId);
+        return new AbstractList<>() {
+            @Override
+            public HistoryEntry get(final int index) {
+                return toEntry(records[index]);
+            }
+
+            @Override
+            public int size() {
+                return records.length;
+            }
+        };
+    }
+
+    /**
+     * Cea mai recentă zi din istoricul tichetului, sau null dacă nu are evenimente.
+     */
+    public LocalDate lastDay(final int ticketId) {
+        if (ticketId >= first.length) {
+            return null;
+        }
+        Integer max = null;
+        for (int r = first[ticketId]; r != NONE; r = next[r]) {
+            if (days[r] != NO_DAY && (max == null || days[r] > max)) {
+                max = days[r];
+            }
+        }
+        return max == null ? null : LocalDate.ofEpochDay(max);
+    }
+
+    private int[] recordsOf(final int ticketId) {
+        if (ticketId < 0 || ticketId >= first.length) {
+            return new int[0];
+        }
+        int[] records = new int[counts[ticketId]];
+        int i = 0;
+        for (int r = first[ticketId]; r != NONE; r = next[r]) {
+            records[i++] = r;
+        }
+        return records;
+    }
+
+    private HistoryEntry toEntry(final int r) {
+        HistoryAction action = ACTIONS[actions[r]];
+        HistoryEntry e = new HistoryEntry();
+        e.setAction(action.getLabel());
+        e.setBy(symbols.nameOf(actors[r]));
+        e.setTimestamp(days[r] == NO_DAY ? null : LocalDate.ofEpochDay(days[r]).toString());
+        switch (action) {
+            case ADDED_TO_MILESTONE -> e.setMilestone(symbols.nameOf(milestones[r]));
+            case STATUS_CHANGED -> {
+                e.setFrom(Status.values()[from[r]].toString());
+                e.setTo(Status.values()[to[r]].toString());
+            }
+            case PRIORITY_ESCALATION -> e.setDescription(
+                    "Priority increased due to time in milestone '"
+                    + symbols.nameOf(milestones[r]) + "' to " + Priority.values()[to[r]]);
+            case DEADLINE_IMMINENT_ESCALATION -> e.setDescription(
+                    "Escalated to CRITICAL - 1 day before due date");
+            case AUTO_UNASSIGN -> e.setDescription("Ticket unassigned: priority "
+                    + (to[r] == NONE ? null : Priority.values()[to[r]]) + " exceeds dev seniority");
+            case MILESTONE_UNBLOCKED -> e.setDescription("Milestone unblocked");
+            default -> {
+            }
+        }
+        return e;
+    }
+
+    private void grow() {
+        int n = ticketIds.length * 2;
+        ticketIds = Arrays.copyOf(ticketIds, n);
+        days = Arrays.copyOf(days, n);
+        actions = Arrays.copyOf(actions, n);
+        actors = Arrays.copyOf(actors, n);
+        from = Arrays.copyOf(from, n);
+        to = Arrays.copyOf(to, n);
+        milestones = Arrays.copyOf(milestones, n);
+        next = Arrays.copyOf(next, n);
+    }
+
+    private void ensureTicket(final int ticketId) {
+        if (ticketId < first.length) {
+            return;
+        }
+        int old = first.length;
+        int n = Math.max(ticketId + 1, old * 2);
+        first = Arrays.copyOf(first, n);
+        last = Arrays.copyOf(last, n);
+        counts = Arrays.copyOf(counts, n);
+        Arrays.fill(first, old, n, NONE);
+        Arrays.fill(last, old, n, NONE);
+    }
+}
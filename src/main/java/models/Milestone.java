@@ -19,4 +19,7 @@ public class Milestone {
     // Logic fields
     private List<String> blockingFor = new ArrayList<>(); // Milestones blocked by this one
     private List<String> dependsOn = new ArrayList<>();   // Milestones this one depends on (calculated from blockingFor of others)
-}
\ No newline at end of file
+
+    // Stare precalculată pentru viewMilestones / verificarea de blocare (vezi TicketSystem)
+    private MilestoneSummary summary;
+}
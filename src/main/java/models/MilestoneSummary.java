@@ -0,0 +1,141 @@
+package models;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Starea derivată a unui milestone, ținută la zi incremental de TicketSystem
+ * (închideri, redeschideri, asignări) ca viewMilestones să nu mai recalculeze nimic.
+ * Tichetele sunt indexate după poziția lor în lista milestone-ului, ca ordinea
+ * din output să rămână cea din input.
+ */
+public final class MilestoneSummary {
+    private final Map<Integer, List<Integer>> positions = new HashMap<>();
+    private final TreeMap<Integer, Integer> open = new TreeMap<>();
+    private final TreeMap<Integer, Integer> closed = new TreeMap<>();
+    // epoch day -> câte tichete s-au închis în acea zi
+    private final TreeMap<Long, Integer> closedDays = new TreeMap<>();
+    private final Map<String, TreeMap<Integer, Integer>> assignedByDev = new HashMap<>();
+
+    // Milestone-urile care depind de acesta (au numele lui în dependsOn)
+    @Getter
+    private final List<Milestone> dependents = new ArrayList<>();
+    // Câte dependențe ale acestui milestone mai au tichete ne-închise
+    private int incompleteDependencies;
+
+    public MilestoneSummary(final List<Integer> tickets) {
+        for (int pos = 0; pos < tickets.size(); pos++) {
+            Integer id = tickets.get(pos);
+            positions.computeIfAbsent(id, k -> new ArrayList<>()).add(pos);
+            open.put(pos, id);
+        }
+    }
+
+    /**
+     * Mută tichetul la închise și numără ziua închiderii.
+     *
+     * @param id       tichetul închis
+     * @param epochDay ziua închiderii
+     */
+    public void onClosed(final int id, final long epochDay) {
+        for (Integer pos : positionsOf(id)) {
+            open.remove(pos);
+            closed.put(pos, id);
+            closedDays.merge(epochDay, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Anulează un onClosed anterior.
+     *
+     * @param id       tichetul redeschis
+     * @param epochDay ziua închiderii anulate
+     */
+    public void onReopened(final int id, final long epochDay) {
+        for (Integer pos : positionsOf(id)) {
+            closed.remove(pos);
+            open.put(pos, id);
+            closedDays.computeIfPresent(epochDay, (d, c) -> c == 1 ? null : c - 1);
+        }
+    }
+
+    /**
+     * @param id  tichetul asignat
+     * @param dev developerul care l-a primit
+     */
+    public void onAssigned(final int id, final String dev) {
+        for (Integer pos : positionsOf(id)) {
+            assignedByDev.computeIfAbsent(dev, k -> new TreeMap<>()).put(pos, id);
+        }
+    }
+
+    /**
+     * @param id  tichetul de-asignat
+     * @param dev developerul care l-a avut
+     */
+    public void onUnassigned(final int id, final String dev) {
+        TreeMap<Integer, Integer> devTickets = assignedByDev.get(dev);
+        if (devTickets == null) {
+            return;
+        }
+        for (Integer pos : positionsOf(id)) {
+            devTickets.remove(pos);
+        }
+    }
+
+    private List<Integer> positionsOf(final int id) {
+        return positions.getOrDefault(id, List.of());
+    }
+
+    public boolean isComplete() {
+        return open.isEmpty();
+    }
+
+    public boolean isBlocked() {
+        return incompleteDependencies > 0;
+    }
+
+    /**
+     * Apelată când un milestone de care depinde acesta devine complet.
+     */
+    public void dependencyCompleted() {
+        incompleteDependencies--;
+    }
+
+    /**
+     * Apelată când un milestone de care depinde acesta nu mai este complet.
+     */
+    public void dependencyReopened() {
+        incompleteDependencies++;
+    }
+
+    public List<Integer> getOpenTickets() {
+        return new ArrayList<>(open.values());
+    }
+
+    public List<Integer> getClosedTickets() {
+        return new ArrayList<>(closed.values());
+    }
+
+    public int getClosedCount() {
+        return closed.size();
+    }
+
+    public Long getLastClosedDay() {
+        return closedDays.isEmpty() ? null : closedDays.lastKey();
+    }
+
+    /**
+     * @param dev developerul căutat
+     * @return tichetele milestone-ului asignate lui, în ordinea din milestone
+     */
+    public List<Integer> getTicketsAssignedTo(final String dev) {
+        TreeMap<Integer, Integer> devTickets = assignedByDev.get(dev);
+        return devTickets == null ? new ArrayList<>() : new ArrayList<>(devTickets.values());
+    }
+}
@@ -0,0 +1,28 @@
+package models;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * O notificare publicată de sistem, așa cum e trimisă către sink-urile externe:
+ * topic-ul (milestone sau broadcast), destinatarii și mesajul.
+ */
+@Getter
+public class NotificationEvent {
+    private final String topic;
+    private final String timestamp;
+    private final List<String> recipients;
+    private final List<String> emails;
+    private final String message;
+
+    public NotificationEvent(final String topic, final String timestamp,
+                             final List<String> recipients, final List<String> emails,
+                             final String message) {
+        this.topic = topic;
+        this.timestamp = timestamp;
+        this.recipients = recipients;
+        this.emails = emails;
+        this.message = message;
+    }
+}
@@ -0,0 +1,246 @@
+package models;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Inbox de notificări fără lock-uri pe calea obișnuită: ring buffer cu numere de secvență
+ * per slot (schema Vyukov), sigur pentru mai mulți producători. Ring-ul pornește mic și se
+ * dublează când e plin, până la capacitate, deci un user cu puține notificări nu ține un
+ * buffer întreg. Golirea o face un singur consumator (ViewNotifications), dar și producătorii
+ * pot scoate elemente, pentru politica DROP_OLDEST.
+ * Implicit inbox-ul nu e mărginit (ca lista de dinainte); o limită se pune cu proprietatea
+ * de sistem notifications.capacity, iar politica la depășire cu notifications.overflow.
+ */
+public final class NotificationInbox {
+    public enum Overflow {
+        // Inbox plin: se aruncă cea mai veche notificare
+        DROP_OLDEST,
+        // Inbox plin: notificările noi sunt doar numărate și apar ca "N more notifications"
+        COALESCE
+    }
+
+    // Cel mai mare ring posibil; capacitatea implicită, adică practic nemărginit
+    public static final int MAX_CAPACITY = 1 << 30;
+    public static final int DEFAULT_CAPACITY =
+            parseCapacity(System.getProperty("notifications.capacity"));
+    public static final Overflow DEFAULT_OVERFLOW =
+            parseOverflow(System.getProperty("notifications.overflow"));
+
+    private static final int INITIAL_SIZE = 16;
+
+    private final int maxSize;
+    private final Overflow overflow;
+    // Înlocuit doar de grow(), sub lock-ul inbox-ului
+    private volatile Ring ring;
+    private final AtomicLong dropped = new AtomicLong();
+
+    public NotificationInbox() {
+        this(DEFAULT_CAPACITY, DEFAULT_OVERFLOW);
+    }
+
+    /**
+     * Capacitatea e rotunjită în sus la o putere a lui 2, minimum 2 (ring-ul Vyukov are nevoie
+     * de cel puțin două sloturi): de exemplu 1 devine 2, iar 1000 devine 1024.
+     *
+     * @throws IllegalArgumentException dacă capacity nu e între 1 și MAX_CAPACITY
+     */
+    public NotificationInbox(final int capacity, final Overflow overflow) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Notification inbox capacity must be between 1 and "
+                    + MAX_CAPACITY + ", got " + capacity);
+        }
+        this.maxSize = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        this.overflow = overflow;
+        this.ring = new Ring(Math.min(INITIAL_SIZE, maxSize));
+    }
+
+    /**
+     * Capacitatea din notifications.capacity; lipsă, nenumerică sau în afara [1, MAX_CAPACITY]
+     * înseamnă inbox nemărginit.
+     */
+    static int parseCapacity(final String value) {
+        if (value == null) {
+            return MAX_CAPACITY;
+        }
+        try {
+            int capacity = Integer.parseInt(value.trim());
+            return capacity >= 1 && capacity <= MAX_CAPACITY ? capacity : MAX_CAPACITY;
+        } catch (NumberFormatException e) {
+            return MAX_CAPACITY;
+        }
+    }
+
+    /**
+     * Politica din notifications.overflow; o valoare necunoscută lasă politica implicită.
+     */
+    static Overflow parseOverflow(final String value) {
+        if (value == null) {
+            return Overflow.DROP_OLDEST;
+        }
+        try {
+            return Overflow.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Overflow.DROP_OLDEST;
+        }
+    }
+
+    /**
+     * Adaugă o notificare; la inbox plin aplică politica de overflow.
+     *
+     * @param message textul notificării
+     */
+    public void offer(final String message) {
+        while (true) {
+            Ring r = ring;
+            int result = r.offer(message);
+            if (result == Ring.OK) {
+                return;
+            }
+            if (result == Ring.CLOSED || r.size() < maxSize) {
+                grow(r);
+                continue;
+            }
+            if (overflow == Overflow.COALESCE) {
+                dropped.incrementAndGet();
+                return;
+            }
+            if (r.poll() != null) {
+                dropped.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Trimite consumatorului toate notificările, în ordinea sosirii, și golește inbox-ul.
+     */
+    public synchronized void drain(final Consumer<String> consumer) {
+        for (String m = ring.poll(); m != null; m = ring.poll()) {
+            consumer.accept(m);
+        }
+        long more = dropped.getAndSet(0);
+        if (overflow == Overflow.COALESCE && more > 0) {
+            consumer.accept(more + " more notifications");
+        }
+    }
+
+    /**
+     * Golește inbox-ul fără să livreze nimic.
+     */
+    public synchronized void clear() {
+        drain(m -> { });
+    }
+
+    /**
+     * Numărul de sloturi alocate acum (crește până la capacitatea inbox-ului).
+     */
+    public int allocatedSlots() {
+        return ring.size();
+    }
+
+    /**
+     * Mută notificările într-un ring de două ori mai mare. Ring-ul vechi e închis întâi, deci
+     * producătorii care nu apucaseră să rezerve un slot așteaptă aici și scriu apoi în cel nou;
+     * cei care rezervaseră deja un slot sunt așteptați să-și publice mesajul.
+     */
+    private synchronized void grow(final Ring full) {
+        if (ring != full) {
+            return;
+        }
+        long end = full.close();
+        Ring next = new Ring(Math.min(full.size() * 2, maxSize));
+        while (full.consumed() < end) {
+            String m = full.poll();
+            if (m != null) {
+                next.offer(m);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+        ring = next;
+    }
+
+    private static final class Ring {
+        static final int OK = 0;
+        static final int FULL = 1;
+        static final int CLOSED = 2;
+        // Bitul din tail care marchează un ring înlocuit
+        private static final long CLOSED_BIT = 1L << 62;
+
+        private final String[] buffer;
+        private final AtomicLongArray sequences;
+        private final int mask;
+        private final AtomicLong head = new AtomicLong();
+        private final AtomicLong tail = new AtomicLong();
+
+        Ring(final int size) {
+            this.buffer = new String[size];
+            this.sequences = new AtomicLongArray(size);
+            for (int i = 0; i < size; i++) {
+                sequences.set(i, i);
+            }
+            this.mask = size - 1;
+        }
+
+        int size() {
+            return buffer.length;
+        }
+
+        long consumed() {
+            return head.get();
+        }
+
+        /**
+         * Închide ring-ul pentru producători; întoarce numărul de sloturi rezervate până acum.
+         */
+        long close() {
+            return tail.getAndUpdate(t -> t | CLOSED_BIT);
+        }
+
+        int offer(final String message) {
+            long pos = tail.get();
+            while (true) {
+                if ((pos & CLOSED_BIT) != 0) {
+                    return CLOSED;
+                }
+                int idx = (int) (pos & mask);
+                long diff = sequences.get(idx) - pos;
+                if (diff == 0) {
+                    if (tail.compareAndSet(pos, pos + 1)) {
+                        buffer[idx] = message;
+                        sequences.set(idx, pos + 1);
+                        return OK;
+                    }
+                    pos = tail.get();
+                } else if (diff < 0) {
+                    return FULL;
+                } else {
+                    pos = tail.get();
+                }
+            }
+        }
+
+        String poll() {
+            long pos = head.get();
+            while (true) {
+                int idx = (int) (pos & mask);
+                long diff = sequences.get(idx) - (pos + 1);
+                if (diff == 0) {
+                    if (head.compareAndSet(pos, pos + 1)) {
+                        String message = buffer[idx];
+                        buffer[idx] = null;
+                        sequences.set(idx, pos + mask + 1);
+                        return message;
+                    }
+                    pos = head.get();
+                } else if (diff < 0) {
+                    return null; // gol
+                } else {
+                    pos = head.get();
+                }
+            }
+        }
+    }
+}
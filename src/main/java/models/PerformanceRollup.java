@@ -0,0 +1,53 @@
+package models;
+
+import lombok.Getter;
+
+/**
+ * Agregatele lunare ale unui developer, actualizate la fiecare tichet
+ * care devine (sau nu mai este) CLOSED.
+ */
+@Getter
+public class PerformanceRollup {
+    private int closedTickets;
+    private int highPriorityTickets;
+    private long resolutionDaySum;
+    private int bugTickets;
+    private int featureTickets;
+    private int uiTickets;
+
+    /**
+     * Adaugă un tichet închis la agregate.
+     *
+     * @param t              tichetul devenit CLOSED
+     * @param resolutionDays zilele de rezolvare ale tichetului
+     */
+    public final void add(final Ticket t, final long resolutionDays) {
+        apply(t, resolutionDays, 1);
+    }
+
+    /**
+     * Scoate din agregate un tichet redeschis (sau anulat prin undo).
+     *
+     * @param t              tichetul care nu mai este CLOSED
+     * @param resolutionDays zilele de rezolvare adăugate anterior
+     */
+    public final void remove(final Ticket t, final long resolutionDays) {
+        apply(t, resolutionDays, -1);
+    }
+
+    private void apply(final Ticket t, final long resolutionDays, final int sign) {
+        closedTickets += sign;
+        resolutionDaySum += sign * resolutionDays;
+        Priority priority = t.getBusinessPriority();
+        if (priority == Priority.HIGH || priority == Priority.CRITICAL) {
+            highPriorityTickets += sign;
+        }
+        if ("BUG".equals(t.getType())) {
+            bugTickets += sign;
+        } else if ("FEATURE_REQUEST".equals(t.getType())) {
+            featureTickets += sign;
+        } else if ("UI_FEEDBACK".equals(t.getType())) {
+            uiTickets += sign;
+        }
+    }
+}
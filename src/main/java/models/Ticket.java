@@ -1,11 +1,14 @@
 package models;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import utils.TicketFragments;
 import visitor.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Getter
@@ -24,12 +27,165 @@ public abstract class Ticket implements Visitable {
     private String assignedAt;
     private String solvedAt;
 
-    private List<Comment> comments = new ArrayList<>();
+    // Ziua (epoch day) în care tichetul a devenit CLOSED; null cât timp nu e închis
+    @JsonIgnore
+    private Long closedEpochDay;
 
-    private List<HistoryEntry> history = new ArrayList<>();
+    // Comentariile în ordinea adăugării; un comentariu șters devine tombstone (null), fără shift,
+    // ca sloturile ținute de jurnalul de undo să rămână valide
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    private final List<Comment> commentSlots = new ArrayList<>();
+    // Aceleași comentarii fără tombstone-uri, pentru get(i) în O(1)
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final List<Comment> liveComments = new ArrayList<>();
 
-    public void addHistoryEntry(HistoryEntry entry) {
-        history.add(entry);
+    // Operațiile inverse pentru undoAddComment / undoChangeStatus / undoAssignTicket
+    @JsonIgnore
+    private UndoJournal undoJournal = new UndoJournal();
+
+    // Istoricul e ținut în HistoryLog-ul sistemului, setat la înregistrarea tichetului
+    @JsonIgnore
+    private HistoryLog historyLog;
+
+    // Crește la fiecare modificare a unui câmp din output; invalidează fragmentele din cache
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    private long version;
+    @JsonIgnore
+    private final TicketFragments fragments = new TicketFragments();
+
+    /**
+     * Vedere read-only peste istoricul tichetului din HistoryLog.
+     */
+    @JsonIgnore
+    public List<HistoryEntry> getHistory() {
+        return historyLog == null ? List.of() : historyLog.entriesOf(id);
+    }
+
+    /**
+     * Adaugă comentariul și întoarce slotul lui (folosit de jurnalul de undo).
+     */
+    public final int addComment(final Comment c) {
+        commentSlots.add(c);
+        liveComments.add(c);
+        version++;
+        return commentSlots.size() - 1;
+    }
+
+    /**
+     * Transformă comentariul din slot în tombstone (folosit de undoAddComment).
+     */
+    public final void removeComment(final int slot) {
+        Comment removed = commentSlots.set(slot, null);
+        if (removed != null) {
+            // Undo-ul șterge de obicei ultimul comentariu, deci căutarea pornește de la coadă
+            for (int i = liveComments.size() - 1; i >= 0; i--) {
+                if (liveComments.get(i) == removed) {
+                    liveComments.remove(i);
+                    break;
+                }
+            }
+        }
+        version++;
+    }
+
+    /**
+     * @return true dacă slotul există și comentariul din el nu a fost șters
+     */
+    public final boolean isCommentLive(final int slot) {
+        return slot >= 0 && slot < commentSlots.size() && commentSlots.get(slot) != null;
+    }
+
+    /**
+     * Vedere read-only peste comentariile vizibile (fără tombstone-uri).
+     */
+    public List<Comment> getComments() {
+        return Collections.unmodifiableList(liveComments);
+    }
+
+    // Setterii câmpurilor din output, scriși de mână ca să incrementeze versiunea
+
+    /**
+     * Setează id-ul și incrementează versiunea.
+     */
+    public final void setId(final int id) {
+        this.id = id;
+        version++;
+    }
+
+    /**
+     * Setează tipul și incrementează versiunea.
+     */
+    public final void setType(final String type) {
+        this.type = type;
+        version++;
+    }
+
+    /**
+     * Setează titlul și incrementează versiunea.
+     */
+    public final void setTitle(final String title) {
+        this.title = title;
+        version++;
+    }
+
+    /**
+     * Setează prioritatea și incrementează versiunea.
+     */
+    public final void setBusinessPriority(final Priority businessPriority) {
+        this.businessPriority = businessPriority;
+        version++;
+    }
+
+    /**
+     * Setează statusul și incrementează versiunea.
+     */
+    public final void setStatus(final Status status) {
+        this.status = status;
+        version++;
+    }
+
+    /**
+     * Setează data creării și incrementează versiunea.
+     */
+    public final void setCreatedAt(final String createdAt) {
+        this.createdAt = createdAt;
+        version++;
+    }
+
+    /**
+     * Setează data asignării și incrementează versiunea.
+     */
+    public final void setAssignedAt(final String assignedAt) {
+        this.assignedAt = assignedAt;
+        version++;
+    }
+
+    /**
+     * Setează data rezolvării și incrementează versiunea.
+     */
+    public final void setSolvedAt(final String solvedAt) {
+        this.solvedAt = solvedAt;
+        version++;
+    }
+
+    /**
+     * Setează autorul raportului și incrementează versiunea.
+     */
+    public final void setReportedBy(final String reportedBy) {
+        this.reportedBy = reportedBy;
+        version++;
+    }
+
+    /**
+     * Setează developerul asignat și incrementează versiunea.
+     */
+    public final void setAssignedTo(final String assignedTo) {
+        this.assignedTo = assignedTo;
+        version++;
     }
 
     public abstract void accept(Visitor v);
@@ -0,0 +1,153 @@
+package models;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Jurnalul de undo al unui tichet: pentru fiecare actor, câte o stivă per tip de operație
+ * (comentarii, schimbări de status, asignări), cu operația inversă înregistrată la execuție.
+ * Un undo scoate doar vârful stivei lui. Înregistrările rămase fără obiect (starea tichetului
+ * s-a schimbat pe altă cale) sunt aruncate la următorul pop.
+ */
+public final class UndoJournal {
+    private final Map<String, ActorStacks> byActor = new HashMap<>();
+
+    /**
+     * Inversa unei schimbări de status: valabilă doar cât timp tichetul e încă în statusul "to".
+     */
+    public static final class StatusUndo {
+        private final Status to;
+        private final Status restore;
+        private final boolean clearSolvedAt;
+
+        public StatusUndo(final Status to, final Status restore, final boolean clearSolvedAt) {
+            this.to = to;
+            this.restore = restore;
+            this.clearSolvedAt = clearSolvedAt;
+        }
+
+        public Status getRestore() {
+            return restore;
+        }
+
+        public boolean isClearSolvedAt() {
+            return clearSolvedAt;
+        }
+    }
+
+    /**
+     * Starea tichetului dinaintea unei asignări, restaurată de undoAssignTicket.
+     */
+    public static final class AssignmentUndo {
+        private final String assignee;
+        private final String assignedAt;
+        private final Status status;
+
+        public AssignmentUndo(final String assignee, final String assignedAt, final Status status) {
+            this.assignee = assignee;
+            this.assignedAt = assignedAt;
+            this.status = status;
+        }
+
+        public String getAssignee() {
+            return assignee;
+        }
+
+        public String getAssignedAt() {
+            return assignedAt;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+    }
+
+    private static final class ActorStacks {
+        // Sloturile comentariilor adăugate de actor, cel mai recent în vârf
+        private final Deque<Integer> comments = new ArrayDeque<>();
+        private final Deque<StatusUndo> statuses = new ArrayDeque<>();
+        // Un tichet are un singur asignat,
+        // deci doar ultima asignare a actorului mai poate fi anulată
+        private AssignmentUndo assignment;
+    }
+
+    /**
+     * @param actor autorul comentariului
+     * @param slot  slotul comentariului în tichet
+     */
+    public void pushComment(final String actor, final int slot) {
+        stacks(actor).comments.push(slot);
+    }
+
+    /**
+     * Slotul ultimului comentariu încă vizibil al actorului, scos din jurnal; -1 dacă nu există.
+     */
+    public int popComment(final String actor, final Ticket ticket) {
+        ActorStacks s = byActor.get(actor);
+        if (s == null) {
+            return -1;
+        }
+        while (!s.comments.isEmpty()) {
+            int slot = s.comments.pop();
+            if (ticket.isCommentLive(slot)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param actor cel care a schimbat statusul
+     * @param undo  inversa schimbării
+     */
+    public void pushStatus(final String actor, final StatusUndo undo) {
+        stacks(actor).statuses.push(undo);
+    }
+
+    /**
+     * Inversa ultimei schimbări de status a actorului care încă se aplică statusului curent;
+     * null dacă nu există (apelantul aplică atunci regulile).
+     */
+    public StatusUndo popStatus(final String actor, final Status current) {
+        ActorStacks s = byActor.get(actor);
+        if (s == null) {
+            return null;
+        }
+        while (!s.statuses.isEmpty()) {
+            StatusUndo undo = s.statuses.pop();
+            if (undo.to == current) {
+                return undo;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Înlocuiește asignarea anterioară a actorului, dacă există.
+     *
+     * @param actor developerul care și-a asignat tichetul
+     * @param undo  starea tichetului dinaintea asignării
+     */
+    public void pushAssignment(final String actor, final AssignmentUndo undo) {
+        stacks(actor).assignment = undo;
+    }
+
+    /**
+     * Starea de dinaintea ultimei asignări a actorului, scoasă din jurnal; null dacă nu există.
+     */
+    public AssignmentUndo popAssignment(final String actor) {
+        ActorStacks s = byActor.get(actor);
+        if (s == null) {
+            return null;
+        }
+        AssignmentUndo undo = s.assignment;
+        s.assignment = null;
+        return undo;
+    }
+
+    private ActorStacks stacks(final String actor) {
+        return byActor.computeIfAbsent(actor, k -> new ActorStacks());
+    }
+}
@@ -7,9 +7,6 @@ import lombok.Getter;
 import lombok.Setter;
 import services.Observer;
 
-import java.util.ArrayList;
-import java.util.List;
-
 @Getter
 @Setter
 @JsonTypeInfo(
@@ -28,11 +25,12 @@ public class User implements Observer {
     private String email;
     private Role role;
 
+    // Inbox mărginit; ViewNotifications îl golește direct în răspuns
     @JsonIgnore
-    private List<String> notifications = new ArrayList<>();
+    private NotificationInbox notifications = new NotificationInbox();
 
     public void addNotification(String message) {
-        this.notifications.add(message);
+        this.notifications.offer(message);
     }
 
     public void clearNotifications() {
@@ -41,7 +39,7 @@ public class User implements Observer {
 
     @Override
     public void update(String message) {
-        this.notifications.add(message);
+        this.notifications.offer(message);
         // You could also add logic here to print to console or send an email
     }
 }
\ No newline at end of file
@@ -0,0 +1,404 @@
+package services;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import commands.CommandInput;
+import commands.SearchFilters;
+import commands.TicketParams;
+import models.BusinessValue;
+import models.CustomerDemand;
+import models.ExpertiseArea;
+import models.Frequency;
+import models.Priority;
+import models.Severity;
+import utils.JsonContext;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parser scris de mână pentru fișierul de comenzi, direct peste JsonParser-ul de streaming.
+ * Schema e fixă (câmpurile din CommandInput, params și filters), așa că numele câmpurilor
+ * sunt potrivite cu un switch, fără introspecția și hashing-ul de proprietăți din databind.
+ * Enum-urile sunt recunoscute direct din bufferul de caractere al parser-ului, fără String-uri
+ * intermediare. Semantica e cea a COMMANDS_READER: câmpurile necunoscute sunt ignorate,
+ * un enum invalid devine null, iar un element al array-ului care nu e obiect e o eroare.
+ */
+public final class CommandLogParser implements Closeable {
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final ExpertiseArea[] AREAS = ExpertiseArea.values();
+    private static final Frequency[] FREQUENCIES = Frequency.values();
+    private static final Severity[] SEVERITIES = Severity.values();
+    private static final BusinessValue[] BUSINESS_VALUES = BusinessValue.values();
+    private static final CustomerDemand[] DEMANDS = CustomerDemand.values();
+
+    private final JsonParser p;
+    private final String source;
+    private boolean done;
+    // Comanda curentă; reutilizată de next(), deci nu trebuie păstrată după comanda următoare
+    private final CommandInput slot = new CommandInput();
+    private final ParamsBuffer params = new ParamsBuffer();
+
+    public CommandLogParser(final File file) throws IOException {
+        this(JsonContext.MAPPER.getFactory().createParser(file), file.toString());
+    }
+
+    public CommandLogParser(final InputStream in) throws IOException {
+        this(JsonContext.MAPPER.getFactory().createParser(in), "stream");
+    }
+
+    private CommandLogParser(final JsonParser p, final String source) throws IOException {
+        this.p = p;
+        this.source = source;
+        if (p.nextToken() != JsonToken.START_ARRAY) {
+            p.close();
+            throw new IOException("Expected an array of commands in " + source);
+        }
+    }
+
+    /**
+     * Citește toate comenzile, fiecare într-un CommandInput nou.
+     */
+    public static List<CommandInput> readAll(final File file) throws IOException {
+        List<CommandInput> commands = new ArrayList<>();
+        try (CommandLogParser parser = new CommandLogParser(file)) {
+            parser.readRemaining(commands);
+        }
+        return commands;
+    }
+
+    /**
+     * Citește toate comenzile din stream, fiecare într-un CommandInput nou.
+     */
+    public static List<CommandInput> readAll(final InputStream in) throws IOException {
+        List<CommandInput> commands = new ArrayList<>();
+        readAll(in, commands);
+        return commands;
+    }
+
+    /**
+     * Adaugă comenzile în out pe măsură ce sunt citite: dacă parsarea eșuează,
+     * out păstrează comenzile de dinaintea erorii, ca la citirea cu next().
+     */
+    public static void readAll(final InputStream in, final List<CommandInput> out)
+            throws IOException {
+        try (CommandLogParser parser = new CommandLogParser(in)) {
+            parser.readRemaining(out);
+        }
+    }
+
+    private void readRemaining(final List<CommandInput> out) throws IOException {
+        while (startCommand()) {
+            CommandInput input = new CommandInput();
+            readCommand(input);
+            out.add(input);
+        }
+    }
+
+    /**
+     * Următoarea comandă, în obiectul reutilizat al parser-ului; null la finalul array-ului.
+     */
+    public CommandInput next() throws IOException {
+        if (!startCommand()) {
+            return null;
+        }
+        reset(slot);
+        readCommand(slot);
+        return slot;
+    }
+
+    /**
+     * Trece la următorul element al array-ului; false după ultimul.
+     *
+     * @throws IOException dacă elementul nu e un obiect sau array-ul nu e închis
+     */
+    private boolean startCommand() throws IOException {
+        if (done) {
+            return false;
+        }
+        JsonToken t = p.nextToken();
+        if (t == JsonToken.START_OBJECT) {
+            return true;
+        }
+        if (t == JsonToken.END_ARRAY) {
+            done = true;
+            return false;
+        }
+        if (t == null) {
+            throw new IOException("Unterminated array of commands in " + source);
+        }
+        throw new IOException("Expected a command object in " + source + ", found " + t
+                + " at line " + p.currentTokenLocation().getLineNr());
+    }
+
+    @Override
+    public void close() throws IOException {
+        p.close();
+    }
+
+    private void readCommand(final CommandInput in) throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (field) {
+                case "command" -> in.setCommand(string());
+                case "username" -> in.setUsername(string());
+                case "timestamp" -> in.setTimestamp(string());
+                case "params" ->
+                        in.setParams(value == JsonToken.START_OBJECT ? ticketParams() : skipNull());
+                case "name" -> in.setName(string());
+                case "dueDate" -> in.setDueDate(string());
+                case "tickets" -> in.setTickets(ints());
+                case "blockingFor" -> in.setBlockingFor(strings());
+                case "assignedDevs" -> in.setAssignedDevs(strings());
+                case "comment" -> in.setComment(string());
+                case "ticketID" -> in.setTicketID(integer());
+                case "filters" -> in.setFilters(
+                        value == JsonToken.START_OBJECT ? searchFilters() : skipNull());
+                case "limit" -> in.setLimit(integer());
+                case "cursor" -> in.setCursor(string());
+                case "fields" -> in.setFields(strings());
+                default -> p.skipChildren();
+            }
+        }
+    }
+
+    private static void reset(final CommandInput in) {
+        in.setCommand(null);
+        in.setUsername(null);
+        in.setTimestamp(null);
+        in.setParams(null);
+        in.setName(null);
+        in.setDueDate(null);
+        in.setTickets(null);
+        in.setBlockingFor(null);
+        in.setAssignedDevs(null);
+        in.setComment(null);
+        in.setTicketID(null);
+        in.setFilters(null);
+        in.setLimit(null);
+        in.setCursor(null);
+        in.setFields(null);
+    }
+
+    private TicketParams ticketParams() throws IOException {
+        ParamsBuffer b = params;
+        b.clear();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "type" -> b.type = string();
+                case "title" -> b.title = string();
+                case "description" -> b.description = string();
+                case "expertiseArea" -> b.expertiseArea = enumValue(AREAS);
+                case "businessPriority" -> b.businessPriority = enumValue(PRIORITIES);
+                case "reportedBy" -> b.reportedBy = string();
+                case "expectedBehavior" -> b.expectedBehavior = string();
+                case "actualBehavior" -> b.actualBehavior = string();
+                case "frequency" -> b.frequency = enumValue(FREQUENCIES);
+                case "severity" -> b.severity = enumValue(SEVERITIES);
+                case "environment" -> b.environment = string();
+                case "errorCode" -> b.errorCode = integer();
+                case "businessValue" -> b.businessValue = enumValue(BUSINESS_VALUES);
+                case "customerDemand" -> b.customerDemand = enumValue(DEMANDS);
+                case "uiElementId" -> b.uiElementId = string();
+                case "usabilityScore" -> b.usabilityScore = integer();
+                case "screenshotUrl" -> b.screenshotUrl = string();
+                case "suggestedFix" -> b.suggestedFix = string();
+                default -> p.skipChildren();
+            }
+        }
+        return b.build();
+    }
+
+    private SearchFilters searchFilters() throws IOException {
+        String searchType = null, businessPriority = null, type = null;
+        String createdAfter = null, createdBefore = null;
+        String expertiseArea = null, seniority = null;
+        List<String> keywords = null;
+        Boolean availableForAssignment = null;
+        Double above = null, below = null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "searchType" -> searchType = string();
+                case "businessPriority" -> businessPriority = string();
+                case "type" -> type = string();
+                case "createdAfter" -> createdAfter = string();
+                case "createdBefore" -> createdBefore = string();
+                case "keywords" -> keywords = strings();
+                case "availableForAssignment" -> availableForAssignment = bool();
+                case "expertiseArea" -> expertiseArea = string();
+                case "seniority" -> seniority = string();
+                case "performanceScoreAbove" -> above = decimal();
+                case "performanceScoreBelow" -> below = decimal();
+                default -> p.skipChildren();
+            }
+        }
+        return new SearchFilters(searchType, businessPriority, type, createdAfter, createdBefore,
+                keywords, availableForAssignment, expertiseArea, seniority, above, below);
+    }
+
+    private Boolean bool() throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : p.getValueAsBoolean();
+    }
+
+    private Double decimal() throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : p.getValueAsDouble();
+    }
+
+    private String string() throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (t == JsonToken.START_ARRAY || t == JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return null;
+        }
+        return p.getValueAsString();
+    }
+
+    private Integer integer() throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_NUMBER_INT) {
+            return p.getIntValue();
+        }
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (t == JsonToken.START_ARRAY || t == JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return null;
+        }
+        return p.getValueAsInt();
+    }
+
+    private List<String> strings() throws IOException {
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            return skipNull();
+        }
+        List<String> values = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            values.add(string());
+        }
+        return values;
+    }
+
+    private List<Integer> ints() throws IOException {
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            return skipNull();
+        }
+        List<Integer> values = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            values.add(integer());
+        }
+        return values;
+    }
+
+    private <T> T skipNull() throws IOException {
+        p.skipChildren();
+        return null;
+    }
+
+    /**
+     * Constanta cu numele din bufferul parser-ului, comparată caracter cu caracter;
+     * null dacă nu există.
+     */
+    private <E extends Enum<E>> E enumValue(final E[] values) throws IOException {
+        if (p.currentToken() != JsonToken.VALUE_STRING) {
+            return skipNull();
+        }
+        char[] buf = p.getTextCharacters();
+        int off = p.getTextOffset();
+        int len = p.getTextLength();
+        for (E e : values) {
+            if (matches(e.name(), buf, off, len)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    private static boolean matches(final String name, final char[] buf, final int off,
+                                   final int len) {
+        if (name.length() != len) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (name.charAt(i) != buf[off + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Câmpurile lui params, adunate înainte de a alege record-ul după "type"
+    // (care poate veni oricând); sunt private, dar accesibile parser-ului care le completează
+    private static final class ParamsBuffer {
+        private String type;
+        private String title;
+        private String description;
+        private String reportedBy;
+        private ExpertiseArea expertiseArea;
+        private Priority businessPriority;
+        private String expectedBehavior;
+        private String actualBehavior;
+        private String environment;
+        private Frequency frequency;
+        private Severity severity;
+        private Integer errorCode;
+        private BusinessValue businessValue;
+        private CustomerDemand customerDemand;
+        private String uiElementId;
+        private String screenshotUrl;
+        private String suggestedFix;
+        private Integer usabilityScore;
+
+        void clear() {
+            type = null;
+            title = null;
+            description = null;
+            reportedBy = null;
+            expertiseArea = null;
+            businessPriority = null;
+            expectedBehavior = null;
+            actualBehavior = null;
+            environment = null;
+            frequency = null;
+            severity = null;
+            errorCode = null;
+            businessValue = null;
+            customerDemand = null;
+            uiElementId = null;
+            screenshotUrl = null;
+            suggestedFix = null;
+            usabilityScore = null;
+        }
+
+        TicketParams build() {
+            if (type == null) {
+                return new TicketParams.Unknown(null, title, description, expertiseArea,
+                        businessPriority, reportedBy);
+            }
+            return switch (type) {
+                case "BUG" -> new TicketParams.Bug(type, title, description, expertiseArea,
+                        businessPriority, reportedBy, expectedBehavior, actualBehavior, frequency,
+                        severity, environment, errorCode);
+                case "FEATURE_REQUEST" -> new TicketParams.FeatureRequest(type, title, description,
+                        expertiseArea, businessPriority, reportedBy, businessValue, customerDemand);
+                case "UI_FEEDBACK" -> new TicketParams.UiFeedback(type, title, description,
+                        expertiseArea, businessPriority, reportedBy, uiElementId, businessValue,
+                        usabilityScore, screenshotUrl, suggestedFix);
+                default -> new TicketParams.Unknown(type, title, description, expertiseArea,
+                        businessPriority, reportedBy);
+            };
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import commands.*;
 import models.User;
+import utils.JsonContext;
 
 import java.util.HashMap;
 import java.util.List;
@@ -16,7 +17,7 @@ public class CommandRunner {
 
     public CommandRunner() {
         this.system = TicketSystem.getInstance();
-        this.mapper = new ObjectMapper();
+        this.mapper = JsonContext.MAPPER;
         this.commandRegistry = new HashMap<>();
         initializeCommands();
     }
@@ -0,0 +1,134 @@
+package services;
+
+import models.Developer;
+import models.ExpertiseArea;
+import models.Seniority;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Subordonații unui manager, grupați după ExpertiseArea și Seniority; în fiecare grup
+ * developerii sunt ordonați după performanceScore, ca filtrele de scor să fie range scan-uri.
+ * Developerii fără expertiză sau senioritate stau în grupul cheii null: apar în căutările
+ * care nu filtrează pe acel câmp, ca înainte de index.
+ */
+public final class DeveloperIndex {
+    // HashMap, nu EnumMap: cheia null e grupul developerilor fără expertiză / senioritate
+    private final Map<ExpertiseArea, Map<Seniority, NavigableMap<Double, TreeSet<String>>>> groups =
+            new HashMap<>();
+    private final Map<String, Developer> members = new HashMap<>();
+
+    /**
+     * @param dev subordonatul adăugat, în grupul lui și la scorul curent
+     */
+    public void add(final Developer dev) {
+        members.put(dev.getUsername(), dev);
+        insert(byScore(dev), dev);
+    }
+
+    /**
+     * Mută developerul la noul scor; apelat de TicketSystem după ce scorul a fost schimbat.
+     */
+    public void scoreChanged(final Developer dev, final double oldScore) {
+        if (members.get(dev.getUsername()) != dev) {
+            return;
+        }
+        NavigableMap<Double, TreeSet<String>> scores = byScore(dev);
+        TreeSet<String> old = scores.get(key(oldScore));
+        if (old != null) {
+            old.remove(dev.getUsername());
+            if (old.isEmpty()) {
+                scores.remove(key(oldScore));
+            }
+        }
+        insert(scores, dev);
+    }
+
+    private static void insert(final NavigableMap<Double, TreeSet<String>> scores,
+                               final Developer dev) {
+        scores.computeIfAbsent(key(dev.getPerformanceScore()), k -> new TreeSet<>())
+                .add(dev.getUsername());
+    }
+
+    /**
+     * Developerii din grupurile cerute (null = oricare) cu scorul <= maxScore (null = fără limită),
+     * ordonați după username. Fiecare scor din range are deja username-urile sortate, așa că
+     * rezultatul e o interclasare a acestor liste, fără o sortare nouă.
+     */
+    public List<Developer> query(final ExpertiseArea area, final Seniority seniority,
+                                 final Double maxScore) {
+        if (maxScore != null && maxScore.isNaN()) {
+            return new ArrayList<>();
+        }
+        PriorityQueue<Run> runs = new PriorityQueue<>();
+        for (Map.Entry<ExpertiseArea, Map<Seniority, NavigableMap<Double, TreeSet<String>>>> g
+                : groups.entrySet()) {
+            if (area != null && g.getKey() != area) {
+                continue;
+            }
+            for (Map.Entry<Seniority, NavigableMap<Double, TreeSet<String>>> s
+                    : g.getValue().entrySet()) {
+                if (seniority != null && s.getKey() != seniority) {
+                    continue;
+                }
+                NavigableMap<Double, TreeSet<String>> range = maxScore == null ? s.getValue()
+                        : s.getValue().headMap(key(maxScore), true);
+                for (TreeSet<String> usernames : range.values()) {
+                    runs.add(new Run(usernames.iterator()));
+                }
+            }
+        }
+        // Un developer e într-un singur grup și la un singur scor, deci nu apar duplicate
+        List<Developer> result = new ArrayList<>();
+        while (!runs.isEmpty()) {
+            Run run = runs.poll();
+            result.add(members.get(run.head));
+            if (run.advance()) {
+                runs.add(run);
+            }
+        }
+        return result;
+    }
+
+    private NavigableMap<Double, TreeSet<String>> byScore(final Developer dev) {
+        return groups.computeIfAbsent(dev.getExpertiseArea(), k -> new HashMap<>())
+                .computeIfAbsent(dev.getSeniority(), k -> new TreeMap<>());
+    }
+
+    // O listă sortată de username-uri din interclasare, comparată după elementul curent
+    private static final class Run implements Comparable<Run> {
+        private final Iterator<String> rest;
+        private String head;
+
+        Run(final Iterator<String> usernames) {
+            this.rest = usernames;
+            this.head = usernames.next();
+        }
+
+        boolean advance() {
+            if (!rest.hasNext()) {
+                return false;
+            }
+            head = rest.next();
+            return true;
+        }
+
+        @Override
+        public int compareTo(final Run other) {
+            return head.compareTo(other.head);
+        }
+    }
+
+    // -0.0 și 0.0 sunt egale la comparația cu <=, dar diferite ca chei de TreeMap
+    private static Double key(final double score) {
+        return score + 0.0;
+    }
+}
@@ -0,0 +1,132 @@
+package services;
+
+import models.Ticket;
+import utils.KeywordMatcher;
+import utils.ParallelScan;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Index inversat peste textul normalizat (titlu + descriere, lowercase) al tichetelor.
+ * Filtrul "keywords" din search are semantică de substring, așa că indexăm trigramele
+ * textului: un keyword e găsit doar în tichetele care conțin toate trigramele lui, iar
+ * candidații sunt apoi verificați exact. Keyword-urile mai scurte de GRAM caractere nu au
+ * trigrame, deci pentru ele se verifică direct toate textele.
+ */
+public final class KeywordIndex {
+    private static final int GRAM = 3;
+    private static final int CHAR_BITS = Character.SIZE;
+
+    // Trigrama e împachetată într-un long (3 x 16 biți), fără substring per poziție
+    private final Map<Long, BitSet> postings = new HashMap<>();
+    private final Map<Integer, String> texts = new HashMap<>();
+    private final BitSet allIds = new BitSet();
+
+    /**
+     * @param t tichetul
+     * @return titlul și descrierea tichetului, lowercase, textul în care caută search-ul
+     */
+    public static String normalize(final Ticket t) {
+        String description = t.getDescription() == null ? "" : t.getDescription();
+        return (t.getTitle() + " " + description).toLowerCase();
+    }
+
+    /**
+     * Indexează textul unui tichet nou.
+     *
+     * @param t tichetul adăugat
+     */
+    public void add(final Ticket t) {
+        String text = normalize(t);
+        texts.put(t.getId(), text);
+        allIds.set(t.getId());
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            postings.computeIfAbsent(gram(text, i), k -> new BitSet()).set(t.getId());
+        }
+    }
+
+    private static long gram(final String s, final int i) {
+        return (long) s.charAt(i) << (2 * CHAR_BITS) | (long) s.charAt(i + 1) << CHAR_BITS
+                | s.charAt(i + 2);
+    }
+
+    /**
+     * Golește indexul (la reset-ul sistemului).
+     */
+    public void clear() {
+        postings.clear();
+        texts.clear();
+        allIds.clear();
+    }
+
+    /**
+     * Tichetele care pot conține keyword-ul (deja lowercase); superset al potrivirilor exacte.
+     * Un keyword sub GRAM caractere nu are trigrame, deci toate tichetele sunt candidate.
+     */
+    public BitSet candidates(final String keyword) {
+        if (keyword.length() < GRAM) {
+            return (BitSet) allIds.clone();
+        }
+        BitSet result = null;
+        for (int i = 0; i + GRAM <= keyword.length(); i++) {
+            BitSet posting = postings.get(gram(keyword, i));
+            if (posting == null) {
+                return new BitSet();
+            }
+            // Pornim de la prima listă de postări, nu de la toate id-urile
+            if (result == null) {
+                result = (BitSet) posting.clone();
+            } else {
+                result.and(posting);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returnează, pentru fiecare tichet cu cel puțin o potrivire, keyword-urile găsite
+     * (sortate, fără duplicate). Candidații din index sunt verificați cu automatul
+     * construit pentru cererea curentă, într-o singură trecere peste text.
+     */
+    public Map<Integer, List<String>> match(final KeywordMatcher matcher) {
+        BitSet candidates = new BitSet();
+        for (String needle : matcher.getNeedles()) {
+            if (needle.length() < GRAM) {
+                // Un keyword scurt se verifică oricum pe toate textele
+                candidates = allIds;
+                break;
+            }
+            candidates.or(candidates(needle));
+        }
+
+        // Verificarea exactă a candidaților rulează pe bucăți fork-join;
+        // rezultatul se adună apoi în ordinea id-urilor
+        List<Integer> ids = candidates.stream().boxed().collect(Collectors.toList());
+        List<List<String>> words = ParallelScan.map(ids, id -> matcher.match(texts.get(id)));
+        Map<Integer, List<String>> result = new TreeMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (!words.get(i).isEmpty()) {
+                result.put(ids.get(i), Collections.unmodifiableList(words.get(i)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Keyword-urile găsite într-un singur tichet (sortate, fără duplicate); folosit de search-ul
+     * paginat, care verifică tichetele pe rând și se oprește la pagină plină.
+     */
+    public List<String> match(final KeywordMatcher matcher, final int id) {
+        String text = texts.get(id);
+        return text == null ? List.of() : matcher.match(text);
+    }
+}
@@ -0,0 +1,73 @@
+package services;
+
+import models.NotificationEvent;
+import utils.JsonContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Adaugă fiecare notificare ca o linie JSON într-un fișier (NDJSON). Un lot e scris dintr-un
+ * singur buffer; dacă scrierea eșuează, fișierul e tăiat înapoi la ultima linie completă,
+ * iar reîncercarea continuă de la prima notificare nescrisă, fără linii duplicate sau rupte.
+ */
+public final class NdjsonFileSink implements NotificationSink {
+    private final Path file;
+
+    public NdjsonFileSink(final Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public String name() {
+        return "ndjson:" + file;
+    }
+
+    @Override
+    public void deliver(final List<NotificationEvent> batch) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        // Offset-ul de după fiecare linie din buffer
+        int[] lineEnds = new int[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            lines.write(JsonContext.EVENT_WRITER.writeValueAsBytes(batch.get(i)));
+            lines.write('\n');
+            lineEnds[i] = lines.size();
+        }
+        ByteBuffer buf = ByteBuffer.wrap(lines.toByteArray());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            long start = channel.size();
+            channel.position(start);
+            try {
+                while (buf.hasRemaining()) {
+                    channel.write(buf);
+                }
+            } catch (IOException e) {
+                int delivered = completeLines(lineEnds, buf.position());
+                try {
+                    channel.truncate(start + (delivered == 0 ? 0 : lineEnds[delivered - 1]));
+                } catch (IOException truncateFailed) {
+                    e.addSuppressed(truncateFailed);
+                }
+                throw new PartialDeliveryException(delivered, e);
+            }
+        }
+    }
+
+    static int completeLines(final int[] lineEnds, final int written) {
+        int n = 0;
+        while (n < lineEnds.length && lineEnds[n] <= written) {
+            n++;
+        }
+        return n;
+    }
+}
@@ -0,0 +1,275 @@
+package services;
+
+import models.NotificationEvent;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Livrează asincron notificările (notifyDevs / notifyObservers) către sink-uri externe.
+ * Fiecare sink are coada lui mărginită și un fir virtual care trimite loturi, cu reîncercări
+ * și backoff exponențial. close() livrează ce a rămas, oprește firele și închide sink-urile.
+ *
+ * Backpressure: dacă o coadă e plină, publish() așteaptă cel mult offerTimeoutMs să se
+ * elibereze un loc. Dacă nici atunci nu încape, evenimentul e numărat ca dropped, iar sink-ul
+ * e marcat saturat: următoarele evenimente pentru el sunt numărate direct, fără așteptare,
+ * până când firul lui scoate din nou un lot din coadă. Așa un sink blocat costă cel mult o
+ * așteptare, nu câte una pentru fiecare comandă din CommandRunner.execute.
+ *
+ * Dezactivat implicit. Sink-urile se configurează prin proprietatea de sistem
+ * notifications.sinks, o listă separată prin virgulă de ndjson=FIȘIER, uds=SOCKET,
+ * smtp=DIRECTOR_OUTBOX; opțional notifications.queueCapacity, notifications.batchSize,
+ * notifications.maxAttempts și notifications.offerTimeoutMs.
+ */
+public final class NotificationDispatcher {
+    private static final long BASE_BACKOFF_MS = 50;
+    // Cât așteaptă close() ca un fir întrerupt în mijlocul unei livrări să se oprească
+    private static final long STOP_TIMEOUT_MS = 1_000;
+    private static final long FLUSH_POLL_MS = 5;
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    private static final int DEFAULT_BATCH_SIZE = 64;
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+    private static final long DEFAULT_OFFER_TIMEOUT_MS = 100;
+
+    private final List<Worker> workers = new ArrayList<>();
+    private final int queueCapacity;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long offerTimeoutMs;
+    private volatile boolean closed;
+
+    public NotificationDispatcher(final List<NotificationSink> sinks, final int queueCapacity,
+                                  final int batchSize, final int maxAttempts,
+                                  final long offerTimeoutMs) {
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.offerTimeoutMs = offerTimeoutMs;
+        for (NotificationSink sink : sinks) {
+            workers.add(new Worker(sink));
+        }
+    }
+
+    /**
+     * Construiește dispatcher-ul din proprietățile de sistem notifications.*.
+     *
+     * @return dispatcher-ul configurat (fără sink-uri dacă notifications.sinks lipsește)
+     * @throws IllegalArgumentException pentru o intrare fără '=' sau un tip de sink necunoscut
+     */
+    public static NotificationDispatcher fromSystemProperties() {
+        List<NotificationSink> sinks = new ArrayList<>();
+        String spec = System.getProperty("notifications.sinks", "");
+        for (String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int eq = entry.indexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("Invalid notifications.sinks entry '"
+                        + entry.trim() + "', expected KIND=PATH");
+            }
+            String kind = entry.substring(0, eq).trim();
+            sinks.add(createSink(kind, Path.of(entry.substring(eq + 1).trim())));
+        }
+        return new NotificationDispatcher(sinks,
+                Integer.getInteger("notifications.queueCapacity", DEFAULT_QUEUE_CAPACITY),
+                Integer.getInteger("notifications.batchSize", DEFAULT_BATCH_SIZE),
+                Integer.getInteger("notifications.maxAttempts", DEFAULT_MAX_ATTEMPTS),
+                Long.getLong("notifications.offerTimeoutMs", DEFAULT_OFFER_TIMEOUT_MS));
+    }
+
+    private static NotificationSink createSink(final String kind, final Path path) {
+        return switch (kind) {
+            case "ndjson" -> new NdjsonFileSink(path);
+            case "uds" -> new UnixSocketSink(path);
+            case "smtp" -> new SmtpStandInSink(path);
+            default -> throw new IllegalArgumentException("Unknown notification sink '" + kind
+                    + "' in notifications.sinks, expected ndjson, uds or smtp");
+        };
+    }
+
+    /**
+     * @return true dacă există cel puțin un sink configurat
+     */
+    public boolean isEnabled() {
+        return !workers.isEmpty();
+    }
+
+    /**
+     * Pune evenimentul în coada fiecărui sink; așteaptă cel mult offerTimeoutMs per sink plin.
+     *
+     * @param event notificarea de livrat
+     */
+    public void publish(final NotificationEvent event) {
+        if (closed) {
+            return;
+        }
+        for (Worker w : workers) {
+            w.offer(event);
+        }
+    }
+
+    /**
+     * Așteaptă (cel mult timeoutMs) ca toate cozile să fie livrate; folosit la finalul rulării.
+     *
+     * @param timeoutMs timpul maxim de așteptare, în milisecunde
+     */
+    public void flush(final long timeoutMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        for (Worker w : workers) {
+            while (!w.isIdle() && System.currentTimeMillis() < deadline) {
+                try {
+                    Thread.sleep(FLUSH_POLL_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Livrează ce a rămas în cozi (cel mult timeoutMs), oprește firele și închide sink-urile.
+     * Evenimentele publicate după close sunt ignorate. Evenimentele rămase nelivrate sunt
+     * adăugate la getFailed(), iar sink-urile care nu s-au putut închide la getCloseFailures().
+     *
+     * @param timeoutMs timpul maxim de așteptare pentru livrarea cozilor, în milisecunde
+     */
+    public void close(final long timeoutMs) {
+        if (closed) {
+            return;
+        }
+        flush(timeoutMs);
+        closed = true;
+        for (Worker w : workers) {
+            w.stop();
+        }
+    }
+
+    /**
+     * @return evenimentele care nu au încăput în coada unui sink
+     */
+    public long getDropped() {
+        return workers.stream().mapToLong(w -> w.dropped.get()).sum();
+    }
+
+    /**
+     * @return evenimentele acceptate dar nelivrate (reîncercări epuizate sau rămase la close)
+     */
+    public long getFailed() {
+        return workers.stream().mapToLong(w -> w.failed.get()).sum();
+    }
+
+    /**
+     * @return sink-urile al căror close() a aruncat excepție
+     */
+    public long getCloseFailures() {
+        return workers.stream().filter(w -> w.closeFailed).count();
+    }
+
+    private final class Worker {
+        private final NotificationSink sink;
+        private final BlockingQueue<NotificationEvent> queue =
+                new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        // Evenimente acceptate și încă nelivrate (în coadă sau în lotul curent)
+        private final AtomicLong pending = new AtomicLong();
+        // Setat după o așteptare expirată; șters când firul scoate un nou lot din coadă
+        private volatile boolean saturated;
+        private volatile boolean closeFailed;
+        private final Thread thread;
+
+        Worker(final NotificationSink sink) {
+            this.sink = sink;
+            this.thread = Thread.ofVirtual().name("notify-" + sink.name()).start(this::run);
+        }
+
+        void offer(final NotificationEvent event) {
+            pending.incrementAndGet();
+            if (queue.offer(event) || (!saturated && offerWithTimeout(event))) {
+                return;
+            }
+            saturated = true;
+            pending.decrementAndGet();
+            dropped.incrementAndGet();
+        }
+
+        private boolean offerWithTimeout(final NotificationEvent event) {
+            try {
+                return queue.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        boolean isIdle() {
+            return pending.get() == 0;
+        }
+
+        void stop() {
+            thread.interrupt();
+            try {
+                thread.join(STOP_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // Evenimentele rămase în coadă după flush nu mai sunt livrate
+            failed.addAndGet(queue.size());
+            try {
+                sink.close();
+            } catch (IOException | RuntimeException e) {
+                closeFailed = true;
+            }
+        }
+
+        private void run() {
+            List<NotificationEvent> batch = new ArrayList<>(batchSize);
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    batch.add(queue.take());
+                } catch (InterruptedException e) {
+                    return;
+                }
+                queue.drainTo(batch, batchSize - 1);
+                saturated = false;
+                deliverWithRetry(batch);
+                pending.addAndGet(-batch.size());
+                batch.clear();
+            }
+        }
+
+        private void deliverWithRetry(final List<NotificationEvent> batch) {
+            // Evenimentele de la începutul lotului care au ajuns deja la sink nu sunt retrimise
+            int delivered = 0;
+            for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+                try {
+                    sink.deliver(batch.subList(delivered, batch.size()));
+                    return;
+                } catch (IOException | RuntimeException e) {
+                    if (e instanceof NotificationSink.PartialDeliveryException p) {
+                        delivered += p.getDelivered();
+                    }
+                    if (attempt == maxAttempts) {
+                        break;
+                    }
+                    try {
+                        TimeUnit.MILLISECONDS.sleep(BASE_BACKOFF_MS << (attempt - 1));
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+            failed.addAndGet(batch.size() - delivered);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package services;
+
+import models.NotificationEvent;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destinație externă pentru notificări. deliver primește un lot și aruncă IOException
+ * dacă lotul trebuie reîncercat; dacă o parte din lot a ajuns deja la destinație, aruncă
+ * PartialDeliveryException ca reîncercarea să nu o trimită din nou. Implementările nu trebuie
+ * să fie thread-safe (fiecare sink are propriul fir de livrare).
+ */
+public interface NotificationSink extends AutoCloseable {
+    /**
+     * @return numele sink-ului, folosit pentru firul de livrare
+     */
+    String name();
+
+    /**
+     * Trimite lotul la destinație.
+     *
+     * @param batch evenimentele de livrat, în ordinea publicării
+     * @throws IOException dacă lotul trebuie reîncercat
+     */
+    void deliver(List<NotificationEvent> batch) throws IOException;
+
+    @Override
+    default void close() throws IOException {
+    }
+
+    /**
+     * Eșec după ce primele getDelivered() evenimente din lot au fost livrate complet.
+     */
+    final class PartialDeliveryException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        private final int delivered;
+
+        public PartialDeliveryException(final int delivered, final IOException cause) {
+            super(cause.getMessage(), cause);
+            this.delivered = delivered;
+        }
+
+        public int getDelivered() {
+            return delivered;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package services;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registru de topic-uri pentru notificări: topic-ul e chiar obiectul Milestone, cu lista lui
+ * de abonați (referințe User deja rezolvate); BROADCAST ține observerii atașați explicit.
+ */
+public final class NotificationTopics {
+    public static final Object BROADCAST = new Object();
+
+    private final Map<Object, List<Observer>> subscribers = new IdentityHashMap<>();
+
+    /**
+     * Abonează observerul la topic.
+     *
+     * @param topic milestone-ul sau BROADCAST
+     * @param o abonatul
+     */
+    public void subscribe(final Object topic, final Observer o) {
+        subscribers.computeIfAbsent(topic, k -> new ArrayList<>()).add(o);
+    }
+
+    /**
+     * Scoate observerul din lista topic-ului, dacă era abonat.
+     *
+     * @param topic milestone-ul sau BROADCAST
+     * @param o abonatul
+     */
+    public void unsubscribe(final Object topic, final Observer o) {
+        List<Observer> list = subscribers.get(topic);
+        if (list != null) {
+            list.remove(o);
+        }
+    }
+
+    /**
+     * Trimite mesajul abonaților topic-ului; costul e O(abonați ai topic-ului).
+     * Toți destinatarii primesc aceeași referință String.
+     *
+     * @param topic milestone-ul sau BROADCAST
+     * @param message textul notificării
+     */
+    public void publish(final Object topic, final String message) {
+        List<Observer> list = subscribers.get(topic);
+        if (list == null) {
+            return;
+        }
+        for (Observer o : list) {
+            o.update(message);
+        }
+    }
+
+    /**
+     * Uită toate abonamentele.
+     */
+    public void clear() {
+        subscribers.clear();
+    }
+}
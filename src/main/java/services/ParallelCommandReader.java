@@ -0,0 +1,207 @@
+package services;
+
+import commands.CommandInput;
+import utils.ByteBufferInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Citirea paralelă a unui fișier de comenzi mare. Un fir de scanare parcurge fișierul mapat
+ * (FileChannel.map) cu un automat structural (adâncime, string, escape) și taie array-ul
+ * de la rădăcină în bucăți de ~CHUNK_BYTES, la virgulele de pe nivelul 1. Bucățile sunt
+ * parsate în paralel cu CommandLogParser, iar rezultatele ajung la consumator în ordinea
+ * din fișier: coada de future-uri e buffer-ul de reordonare și, fiind mărginită, ține și
+ * scanarea la cel mult câteva bucăți înaintea execuției. O eroare de parsare ajunge la
+ * consumator după comenzile valide dinaintea ei, exact ca la citirea secvențială.
+ */
+public final class ParallelCommandReader {
+    // Sub acest prag parsarea secvențială e mai ieftină decât mapare + fire
+    public static final long THRESHOLD = 16L << 20;
+
+    private static final int CHUNK_BYTES = 1 << 20;
+    // Fereastra mapată pentru scanare (o singură mapare e limitată la 2 GB)
+    private static final long WINDOW = 1L << 28;
+    private static final byte[] OPEN = {'['};
+    private static final byte[] CLOSE = {']'};
+
+    private final Path file;
+    private final int threads;
+
+    public ParallelCommandReader(final Path file, final int threads) {
+        this.file = file;
+        this.threads = Math.max(1, threads);
+    }
+
+    public ParallelCommandReader(final Path file) {
+        this(file, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Aplică action pe fiecare comandă, în ordinea din fișier, pe firul apelant.
+     */
+    public void forEach(final Consumer<CommandInput> action) throws IOException {
+        // Canalul rămâne deschis până termină consumatorul: bucățile sunt mapate de workeri
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        BlockingQueue<CompletableFuture<Chunk>> ordered = new ArrayBlockingQueue<>(threads * 2);
+        CompletableFuture<Chunk> end = CompletableFuture.completedFuture(null);
+
+        Thread scanner = Thread.ofPlatform().name("command-scan").daemon().start(() -> {
+            try {
+                scan(channel, (start, len) -> put(ordered,
+                        CompletableFuture.supplyAsync(() -> parse(channel, start, len), workers)));
+                put(ordered, end);
+            } catch (IOException | RuntimeException e) {
+                // Întrerupt = consumatorul a renunțat deja, nu mai are cine citi eroarea
+                if (!Thread.currentThread().isInterrupted()) {
+                    put(ordered, CompletableFuture.failedFuture(e));
+                }
+            }
+        });
+
+        try {
+            while (true) {
+                CompletableFuture<Chunk> next = ordered.take();
+                if (next == end) {
+                    break;
+                }
+                Chunk chunk = next.get();
+                chunk.commands().forEach(action);
+                if (chunk.error() != null) {
+                    throw chunk.error();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading " + file, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("Failed to parse " + file, e.getCause());
+        } finally {
+            scanner.interrupt();
+            workers.shutdownNow();
+            channel.close();
+        }
+    }
+
+    // Comenzile unei bucăți și eroarea de parsare de după ele (null dacă bucata e validă)
+    private record Chunk(List<CommandInput> commands, IOException error) {
+    }
+
+    @FunctionalInterface
+    private interface ChunkSink {
+        void accept(long start, long length);
+    }
+
+    /**
+     * Găsește granițele elementelor array-ului de la rădăcină și emite bucăți de elemente întregi.
+     */
+    private static void scan(final FileChannel channel, final ChunkSink sink) throws IOException {
+        long size = channel.size();
+        int depth = 0;
+        boolean inString = false, escaped = false, done = false;
+        long chunkStart = -1;
+
+        for (long base = 0; base < size && !done; base += WINDOW) {
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, base,
+                    Math.min(WINDOW, size - base));
+            int limit = window.limit();
+            for (int i = 0; i < limit; i++) {
+                byte b = window.get(i);
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (b == '\\') {
+                        escaped = true;
+                    } else if (b == '"') {
+                        inString = false;
+                    }
+                    continue;
+                }
+                if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                    continue;
+                }
+                long pos = base + i;
+                if (depth == 0) {
+                    if (b != '[') {
+                        throw new IOException("Expected an array of commands");
+                    }
+                    depth = 1;
+                    continue;
+                }
+                if (depth == 1) {
+                    if (b == ',' || b == ']') {
+                        if (chunkStart >= 0 && (b == ']' || pos - chunkStart >= CHUNK_BYTES)) {
+                            sink.accept(chunkStart, pos - chunkStart);
+                            chunkStart = -1;
+                        }
+                        if (b == ']') {
+                            done = true;
+                            break;
+                        }
+                        continue;
+                    }
+                    if (chunkStart < 0) {
+                        chunkStart = pos;
+                    }
+                }
+                if (b == '"') {
+                    inString = true;
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    depth--;
+                }
+            }
+        }
+        if (!done) {
+            throw new IOException("Unterminated array of commands");
+        }
+    }
+
+    /**
+     * Parsează o bucată "e1,e2,...,en" ca array, direct din regiunea ei mapată.
+     */
+    private static Chunk parse(final FileChannel channel, final long start, final long length) {
+        List<CommandInput> commands = new ArrayList<>();
+        try {
+            MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            InputStream in = new SequenceInputStream(Collections.enumeration(List.of(
+                    new ByteArrayInputStream(OPEN), new ByteBufferInputStream(region),
+                    new ByteArrayInputStream(CLOSE))));
+            CommandLogParser.readAll(in, commands);
+            return new Chunk(commands, null);
+        } catch (IOException e) {
+            return new Chunk(commands, e);
+        }
+    }
+
+    private static <T> void put(final BlockingQueue<T> queue, final T value) {
+        try {
+            queue.put(value);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Command reader closed");
+        }
+    }
+}
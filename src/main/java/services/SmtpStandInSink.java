@@ -0,0 +1,61 @@
+package services;
+
+import models.NotificationEvent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Înlocuitor local pentru un server SMTP: fiecare notificare devine un mesaj RFC 822
+ * (fișier .eml) într-un director de outbox, cu destinatarii din email-urile userilor.
+ */
+public final class SmtpStandInSink implements NotificationSink {
+    private static final String FROM = "tickets@localhost";
+
+    private final Path outbox;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SmtpStandInSink(final Path outbox) {
+        this.outbox = outbox;
+    }
+
+    @Override
+    public String name() {
+        return "smtp:" + outbox;
+    }
+
+    @Override
+    public void deliver(final List<NotificationEvent> batch) throws IOException {
+        Files.createDirectories(outbox);
+        for (int i = 0; i < batch.size(); i++) {
+            NotificationEvent e = batch.get(i);
+            if (e.getEmails().isEmpty()) {
+                continue;
+            }
+            String mail = "From: " + FROM + "\r\n"
+                    + "To: " + String.join(", ", e.getEmails()) + "\r\n"
+                    + "Subject: [" + e.getTopic() + "] notification\r\n"
+                    + "Date: " + e.getTimestamp() + "\r\n"
+                    + "Content-Type: text/plain; charset=UTF-8\r\n"
+                    + "\r\n"
+                    + e.getMessage() + "\r\n";
+            Path file = outbox.resolve(System.currentTimeMillis() + "-"
+                    + sequence.incrementAndGet() + ".eml");
+            try {
+                Files.writeString(file, mail, StandardCharsets.UTF_8);
+            } catch (IOException ex) {
+                // Mesajele scrise deja rămân în outbox și nu sunt retrimise; cel rupt e șters
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException deleteFailed) {
+                    ex.addSuppressed(deleteFailed);
+                }
+                throw new PartialDeliveryException(i, ex);
+            }
+        }
+    }
+}
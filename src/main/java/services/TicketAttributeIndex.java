@@ -0,0 +1,126 @@
+package services;
+
+import models.ExpertiseArea;
+import models.Priority;
+import models.Status;
+import models.Ticket;
+import utils.CompressedBitmap;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Indexuri bitmap peste atributele cu puține valori ale tichetelor
+ * (prioritate, tip, status, arie de expertiză), ținute la zi de TicketSystem.
+ */
+public final class TicketAttributeIndex {
+    private final CompressedBitmap all = new CompressedBitmap();
+    private final Map<Priority, CompressedBitmap> byPriority = new EnumMap<>(Priority.class);
+    private final Map<String, CompressedBitmap> byType = new HashMap<>();
+    private final Map<Status, CompressedBitmap> byStatus = new EnumMap<>(Status.class);
+    private final Map<ExpertiseArea, CompressedBitmap> byExpertise =
+            new EnumMap<>(ExpertiseArea.class);
+
+    /**
+     * @param t tichetul nou, indexat după valorile lui curente
+     */
+    public void add(final Ticket t) {
+        all.add(t.getId());
+        bucket(byPriority, t.getBusinessPriority()).add(t.getId());
+        bucket(byType, t.getType()).add(t.getId());
+        bucket(byStatus, t.getStatus()).add(t.getId());
+        bucket(byExpertise, t.getExpertiseArea()).add(t.getId());
+    }
+
+    /**
+     * Mută tichetul din bucket-ul vechiului status în cel nou.
+     *
+     * @param t    tichetul modificat
+     * @param from statusul anterior
+     * @param to   statusul nou
+     */
+    public void statusChanged(final Ticket t, final Status from, final Status to) {
+        bucket(byStatus, from).remove(t.getId());
+        bucket(byStatus, to).add(t.getId());
+    }
+
+    /**
+     * Mută tichetul din bucket-ul vechii priorități în cel nou.
+     *
+     * @param t    tichetul modificat
+     * @param from prioritatea anterioară
+     * @param to   prioritatea nouă
+     */
+    public void priorityChanged(final Ticket t, final Priority from, final Priority to) {
+        bucket(byPriority, from).remove(t.getId());
+        bucket(byPriority, to).add(t.getId());
+    }
+
+    /**
+     * Golește indexurile (la reset-ul sistemului).
+     */
+    public void clear() {
+        all.clear();
+        byPriority.clear();
+        byType.clear();
+        byStatus.clear();
+        byExpertise.clear();
+    }
+
+    /**
+     * @return toate tichetele; bitmap-ul intern, nu trebuie modificat
+     */
+    public CompressedBitmap all() {
+        return all;
+    }
+
+    /**
+     * @param p prioritatea căutată
+     * @return tichetele cu prioritatea dată (gol pentru null)
+     */
+    public CompressedBitmap withPriority(final Priority p) {
+        return p == null ? new CompressedBitmap() : bitmap(byPriority, p);
+    }
+
+    /**
+     * @param type tipul căutat (BUG, FEATURE_REQUEST, UI_FEEDBACK)
+     * @return tichetele de tipul dat
+     */
+    public CompressedBitmap withType(final String type) {
+        return bitmap(byType, type);
+    }
+
+    /**
+     * @param area aria de expertiză căutată
+     * @return tichetele cu aria dată (gol pentru null)
+     */
+    public CompressedBitmap withExpertise(final ExpertiseArea area) {
+        return area == null ? new CompressedBitmap() : bitmap(byExpertise, area);
+    }
+
+    private static <K> CompressedBitmap bitmap(final Map<K, CompressedBitmap> index, final K key) {
+        return index.getOrDefault(key, new CompressedBitmap());
+    }
+
+    /**
+     * Reuniunea tichetelor care au unul dintre statusurile date.
+     */
+    public CompressedBitmap withStatus(final Status... statuses) {
+        CompressedBitmap result = new CompressedBitmap();
+        for (Status s : statuses) {
+            if (byStatus.containsKey(s)) {
+                result = CompressedBitmap.or(result, byStatus.get(s));
+            }
+        }
+        return result;
+    }
+
+    // Tichetele fără valoare pentru atribut (ex. expertiseArea lipsă) nu apar în niciun bucket
+    private static <K> CompressedBitmap bucket(final Map<K, CompressedBitmap> index, final K key) {
+        if (key == null) {
+            return new CompressedBitmap();
+        }
+        return index.computeIfAbsent(key, k -> new CompressedBitmap());
+    }
+}
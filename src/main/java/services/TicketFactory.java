@@ -1,65 +1,86 @@
 package services;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import models.*;
+import commands.TicketParams;
+import models.BugTicket;
+import models.FeatureRequestTicket;
+import models.Priority;
+import models.Status;
+import models.Ticket;
+import models.UiFeedbackTicket;
 
-public class TicketFactory {
-    private static final ObjectMapper mapper = new ObjectMapper();
+/**
+ * Construiește tichetul concret (Bug / FeatureRequest / UiFeedback) din parametrii
+ * lui reportTicket.
+ */
+public final class TicketFactory {
 
-    public static Ticket createTicket(JsonNode params, int id, String timestamp) {
-        String type = params.get("type").asText();
+    private TicketFactory() {
+    }
+
+    /**
+     * @param params    parametrii decodați din comandă
+     * @param id        id-ul alocat tichetului
+     * @param timestamp data raportării
+     * @return tichetul nou, cu status OPEN
+     * @throws IllegalArgumentException pentru un tip necunoscut sau o prioritate lipsă / invalidă
+     */
+    public static Ticket createTicket(final TicketParams params, final int id,
+                                      final String timestamp) {
         Ticket ticket;
 
-        switch (type) {
-            case "BUG":
+        switch (params) {
+            case TicketParams.Bug p -> {
                 BugTicket bug = new BugTicket();
-                if (params.has("expectedBehavior")) bug.setExpectedBehavior(params.get("expectedBehavior").asText());
-                if (params.has("actualBehavior")) bug.setActualBehavior(params.get("actualBehavior").asText());
-                if (params.has("frequency")) bug.setFrequency(Frequency.valueOf(params.get("frequency").asText()));
-                if (params.has("severity")) bug.setSeverity(Severity.valueOf(params.get("severity").asText()));
-                if (params.has("environment")) bug.setEnvironment(params .get("environment").asText());
-                if (params.has("errorCode")) bug.setErrorCode(params.get("errorCode").asInt());
+                bug.setExpectedBehavior(p.expectedBehavior());
+                bug.setActualBehavior(p.actualBehavior());
+                bug.setFrequency(p.frequency());
+                bug.setSeverity(p.severity());
+                bug.setEnvironment(p.environment());
+                bug.setErrorCode(p.errorCode());
                 ticket = bug;
-                break;
-            case "FEATURE_REQUEST":
+            }
+            case TicketParams.FeatureRequest p -> {
                 FeatureRequestTicket fr = new FeatureRequestTicket();
-                if (params.has("businessValue")) fr.setBusinessValue(BusinessValue.valueOf(params.get("businessValue").asText()));
-                if (params.has("customerDemand")) fr.setCustomerDemand(CustomerDemand.valueOf(params.get("customerDemand").asText()));
+                fr.setBusinessValue(p.businessValue());
+                fr.setCustomerDemand(p.customerDemand());
                 ticket = fr;
-                break;
-            case "UI_FEEDBACK":
+            }
+            case TicketParams.UiFeedback p -> {
                 UiFeedbackTicket ui = new UiFeedbackTicket();
-
-                if (params.has("uiElementId")) ui.setUiElementId(params.get("uiElementId").asText());
-                if (params.has("businessValue")) ui.setBusinessValue(BusinessValue.valueOf(params.get("businessValue").asText()));
-                if (params.has("usabilityScore")) ui.setUsabilityScore(params.get("usabilityScore").asInt());
-                if (params.has("screenshotUrl")) ui.setScreenshotUrl(params.get("screenshotUrl").asText());
-                if (params.has("suggestedFix")) ui.setSuggestedFix(params.get("suggestedFix").asText());
+                ui.setUiElementId(p.uiElementId());
+                ui.setBusinessValue(p.businessValue());
+                ui.setUsabilityScore(p.usabilityScore());
+                ui.setScreenshotUrl(p.screenshotUrl());
+                ui.setSuggestedFix(p.suggestedFix());
                 ticket = ui;
-                break;
-            default:
-                throw new IllegalArgumentException("Unknown ticket type: " + type);
+            }
+            case TicketParams.Unknown p ->
+                    throw new IllegalArgumentException("Unknown ticket type: " + p.type());
         }
 
         // Set common fields
         ticket.setId(id);
-        ticket.setType(type);
+        ticket.setType(params.type());
         ticket.setCreatedAt(timestamp);
         ticket.setStatus(Status.OPEN); // Initial status
 
-        if (params.has("title")) ticket.setTitle(params.get("title").asText());
-        if (params.has("description")) ticket.setDescription(params.get("description").asText());
-        if (params.has("expertiseArea")) ticket.setExpertiseArea(ExpertiseArea.valueOf(params.get("expertiseArea").asText()));
-        if (params.has("businessPriority")) ticket.setBusinessPriority(Priority.valueOf(params.get("businessPriority").asText()));
-
-        // Handling reportedBy
-        if (params.has("reportedBy")) {
-            ticket.setReportedBy(params.get("reportedBy").asText());
+        ticket.setTitle(params.title());
+        ticket.setDescription(params.description());
+        ticket.setExpertiseArea(params.expertiseArea());
+        // Rapoartele anonime primesc LOW; altfel prioritatea e obligatorie
+        // (un enum invalid ajunge aici ca null)
+        if (params.reporter().isEmpty()) {
+            ticket.setBusinessPriority(Priority.LOW);
+        } else if (params.businessPriority() != null) {
+            ticket.setBusinessPriority(params.businessPriority());
         } else {
-            ticket.setReportedBy(""); // Default empty for anonymous if missing
+            throw new IllegalArgumentException("Missing or invalid business priority for ticket "
+                    + id);
         }
 
+        // Handling reportedBy: empty for anonymous if missing
+        ticket.setReportedBy(params.reporter());
+
         return ticket;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,59 @@
+package services;
+
+import models.Ticket;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Tichetele în ordinea de afișare (createdAt, id), ținută la inserare.
+ * Tichetele sosesc de regulă deja în această ordine, deci inserarea e un append;
+ * doar un createdAt mai vechi decât ultimul trece prin căutare binară.
+ */
+public final class TicketOrderIndex {
+    public static final Comparator<Ticket> ORDER =
+            Comparator.comparing(Ticket::getCreatedAt).thenComparingInt(Ticket::getId);
+
+    private final List<Ticket> ordered = new ArrayList<>();
+    // Cât timp ordinea (createdAt, id) coincide cu ordinea id-urilor,
+    // un bitmap de id-uri e deja sortat
+    private boolean idOrdered = true;
+
+    /**
+     * @param t tichetul nou, inserat la poziția lui în ordinea (createdAt, id)
+     */
+    public void add(final Ticket t) {
+        Ticket last = ordered.isEmpty() ? null : ordered.get(ordered.size() - 1);
+        if (last == null || ORDER.compare(last, t) <= 0) {
+            if (last != null && last.getId() > t.getId()) {
+                idOrdered = false;
+            }
+            ordered.add(t);
+            return;
+        }
+        idOrdered = false;
+        int i = Collections.binarySearch(ordered, t, ORDER);
+        ordered.add(i < 0 ? -i - 1 : i, t);
+    }
+
+    /**
+     * Golește indexul (la reset-ul sistemului).
+     */
+    public void clear() {
+        ordered.clear();
+        idOrdered = true;
+    }
+
+    /**
+     * @return tichetele în ordinea de afișare (vedere nemodificabilă)
+     */
+    public List<Ticket> all() {
+        return Collections.unmodifiableList(ordered);
+    }
+
+    public boolean isIdOrdered() {
+        return idOrdered;
+    }
+}
@@ -3,11 +3,15 @@ package services;
 import lombok.Getter;
 import lombok.Setter;
 import models.*;
+import utils.CompressedBitmap;
+import utils.SymbolTable;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.stream.Stream;
 
 @Getter
 @Setter
@@ -26,6 +30,8 @@ public class TicketSystem {
     private Map<String, User> users = new HashMap<>();
     private Map<Integer, Ticket> tickets = new HashMap<>();
     private List<Milestone> milestones = new ArrayList<>();
+    private Map<String, Milestone> milestonesByName = new HashMap<>();
+    private Map<Integer, Milestone> milestoneByTicket = new HashMap<>();
 
     private int ticketIdCounter = 0;
     private String currentDate;
@@ -35,15 +41,53 @@ public class TicketSystem {
 
     private Set<String> blockedMilestones = new HashSet<>();
 
-    private List<Observer> observers = new ArrayList<>();
-
+    // Abonații pe milestone (developerii asignați) și observerii globali
+    private NotificationTopics topics = new NotificationTopics();
+    // Livrare asincronă către sink-uri externe; fără sink-uri configurate nu face nimic
+    private NotificationDispatcher dispatcher = NotificationDispatcher.fromSystemProperties();
+
+    // developer -> lună -> agregate pentru tichetele închise în acea lună
+    private Map<String, Map<YearMonth, PerformanceRollup>> performanceRollups = new HashMap<>();
+
+    // Index de căutare peste titlu + descriere, populat de ReportTicket
+    private KeywordIndex keywordIndex = new KeywordIndex();
+    // Bitmap-uri pe prioritate / tip / status / expertiză pentru search și rapoarte
+    private TicketAttributeIndex attributeIndex = new TicketAttributeIndex();
+    // Ordinea (createdAt, id) pentru viewTickets / search
+    private TicketOrderIndex orderIndex = new TicketOrderIndex();
+    // developer -> prioritate -> id-urile tichetelor asignate lui (pentru viewAssignedTickets)
+    private Map<String, EnumMap<Priority, TreeSet<Integer>>> assignedByPriority = new HashMap<>();
+    // manager -> subordonații lui, indexați pentru search-ul de developeri
+    private Map<String, DeveloperIndex> developerIndexes = new HashMap<>();
+    // developer -> tichetele pe care și le-a asignat vreodată (pentru viewTicketHistory)
+    private Map<String, CompressedBitmap> everAssigned = new HashMap<>();
+    // Nume de useri / milestone-uri internate, folosite doar de HistoryLog
+    private SymbolTable symbols = new SymbolTable();
+    // Istoricul tuturor tichetelor
+    private HistoryLog historyLog = new HistoryLog(symbols);
 
 
     public void reset() {
         this.users.clear();
         this.tickets.clear();
         this.milestones.clear();
+        this.milestonesByName.clear();
+        this.milestoneByTicket.clear();
         this.blockedMilestones.clear();
+        this.performanceRollups.clear();
+        this.keywordIndex.clear();
+        this.attributeIndex.clear();
+        this.orderIndex.clear();
+        this.assignedByPriority.clear();
+        this.developerIndexes.clear();
+        this.historyLog.clear();
+        this.topics.clear();
+        this.everAssigned.clear();
+        // Doar HistoryLog (golit mai sus) ține id-uri din tabelă
+        this.symbols.clear();
+        // Dispatcher-ul rulării anterioare e închis de App; fiecare rulare pornește cu sink-uri noi
+        this.dispatcher.close(0);
+        this.dispatcher = NotificationDispatcher.fromSystemProperties();
         this.ticketIdCounter = 0;
         this.currentDate = null;
         this.testingPhase = true;
@@ -57,6 +101,41 @@ public class TicketSystem {
                 this.users.put(user.getUsername(), user);
             }
         }
+        buildDeveloperIndexes();
+    }
+
+    private void buildDeveloperIndexes() {
+        developerIndexes.clear();
+        for (User u : users.values()) {
+            if (!(u instanceof Manager) || ((Manager) u).getSubordinates() == null) {
+                continue;
+            }
+            DeveloperIndex index = new DeveloperIndex();
+            for (String sub : ((Manager) u).getSubordinates()) {
+                if (users.get(sub) instanceof Developer) {
+                    index.add((Developer) users.get(sub));
+                }
+            }
+            developerIndexes.put(u.getUsername(), index);
+        }
+    }
+
+    /**
+     * Indexul subordonaților managerului, sau null dacă nu e manager.
+     */
+    public DeveloperIndex developerIndexOf(final String manager) {
+        return developerIndexes.get(manager);
+    }
+
+    /**
+     * Setează scorul de performanță și mută developerul în indexurile managerilor lui.
+     */
+    public void updatePerformanceScore(final Developer dev, final double score) {
+        double old = dev.getPerformanceScore();
+        dev.setPerformanceScore(score);
+        for (DeveloperIndex index : developerIndexes.values()) {
+            index.scoreChanged(dev, old);
+        }
     }
 
     public void updateTime(String timestamp) {
@@ -118,14 +197,9 @@ public class TicketSystem {
 
                         if (t.getBusinessPriority() != Priority.CRITICAL) {
                             Priority next = t.getBusinessPriority().next();
-                            t.setBusinessPriority(next);
+                            updatePriority(t, next);
 
-                            HistoryEntry entry = new HistoryEntry();
-                            entry.setTimestamp(date);
-                            entry.setBy("SYSTEM");
-                            entry.setAction("PRIORITY_ESCALATION");
-                            entry.setDescription("Priority increased due to time in milestone '" + mName + "' to " + next);
-                            t.addHistoryEntry(entry);
+                            historyLog.priorityEscalation(t, date, mName, next);
 
                             checkDevAccess(t, date);
                         }
@@ -142,14 +216,10 @@ public class TicketSystem {
                         Ticket t = tickets.get(tid);
                         if (t != null && t.getStatus() != Status.CLOSED && t.getStatus() != Status.RESOLVED) {
                             if (t.getBusinessPriority() != Priority.CRITICAL) {
-                                t.setBusinessPriority(Priority.CRITICAL);
+                                updatePriority(t, Priority.CRITICAL);
 
-                                HistoryEntry entry = new HistoryEntry();
-                                entry.setTimestamp(date);
-                                entry.setBy("SYSTEM");
-                                entry.setAction("DEADLINE_IMMINENT_ESCALATION");
-                                entry.setDescription("Escalated to CRITICAL - 1 day before due date");
-                                t.addHistoryEntry(entry);
+                                historyLog.record(t, date,
+                                        HistoryAction.DEADLINE_IMMINENT_ESCALATION, "SYSTEM");
 
                                 checkDevAccess(t, date);
                                 notified = true;
@@ -173,12 +243,214 @@ public class TicketSystem {
         return false;
     }
 
+    /**
+     * Adaugă milestone-ul, îi construiește sumarul din starea curentă a tichetelor
+     * și îl leagă de milestone-urile pe care le blochează.
+     */
     public void addMilestone(Milestone m) {
+        MilestoneSummary summary = new MilestoneSummary(m.getTickets());
+        m.setSummary(summary);
+        for (Integer tid : m.getTickets()) {
+            milestoneByTicket.putIfAbsent(tid, m);
+            Ticket t = tickets.get(tid);
+            if (t == null) {
+                continue;
+            }
+            if (t.getClosedEpochDay() != null) {
+                summary.onClosed(tid, t.getClosedEpochDay());
+            }
+            if (t.getAssignedTo() != null) {
+                summary.onAssigned(tid, t.getAssignedTo());
+            }
+        }
+
+        if (m.getBlockingFor() != null) {
+            for (String blockedName : m.getBlockingFor()) {
+                Milestone blocked = findMilestoneByName(blockedName);
+                if (blocked == null) {
+                    continue;
+                }
+                blocked.getDependsOn().add(m.getName());
+                summary.getDependents().add(blocked);
+                if (!summary.isComplete()) {
+                    blocked.getSummary().dependencyReopened();
+                }
+            }
+        }
+
         this.milestones.add(m);
+        this.milestonesByName.putIfAbsent(m.getName(), m);
     }
 
     public Milestone findMilestoneByName(String name) {
-        return milestones.stream().filter(m -> m.getName().equals(name)).findFirst().orElse(null);
+        return milestonesByName.get(name);
+    }
+
+    /**
+     * Milestone-ul care conține tichetul, sau null.
+     */
+    public Milestone findMilestoneOfTicket(final int ticketId) {
+        return milestoneByTicket.get(ticketId);
+    }
+
+    /**
+     * Schimbă developerul asignat, ținând la zi repartiția din sumarul milestone-ului.
+     */
+    public void setAssignee(final Ticket t, final String username) {
+        Milestone m = milestoneByTicket.get(t.getId());
+        if (m != null && t.getAssignedTo() != null) {
+            m.getSummary().onUnassigned(t.getId(), t.getAssignedTo());
+        }
+        unqueueAssigned(t);
+        t.setAssignedTo(username);
+        queueAssigned(t);
+        if (m != null && username != null) {
+            m.getSummary().onAssigned(t.getId(), username);
+        }
+    }
+
+    private void queueAssigned(final Ticket t) {
+        if (t.getAssignedTo() == null || t.getBusinessPriority() == null) {
+            return;
+        }
+        assignedByPriority.computeIfAbsent(t.getAssignedTo(), k -> new EnumMap<>(Priority.class))
+                .computeIfAbsent(t.getBusinessPriority(), k -> new TreeSet<>()).add(t.getId());
+    }
+
+    private void unqueueAssigned(final Ticket t) {
+        if (t.getAssignedTo() == null || t.getBusinessPriority() == null) {
+            return;
+        }
+        EnumMap<Priority, TreeSet<Integer>> byPriority = assignedByPriority.get(t.getAssignedTo());
+        if (byPriority != null && byPriority.containsKey(t.getBusinessPriority())) {
+            byPriority.get(t.getBusinessPriority()).remove(t.getId());
+        }
+    }
+
+    /**
+     * Ține minte că developerul și-a asignat tichetul; apelat de AssignTicket.
+     */
+    public void recordAssignment(final User dev, final Ticket t) {
+        everAssigned.computeIfAbsent(dev.getUsername(), k -> new CompressedBitmap()).add(t.getId());
+    }
+
+    /**
+     * Id-urile tichetelor relevante pentru istoricul userului: cele asignate lui acum
+     * și, pentru developer, cele pe care și le-a asignat vreodată.
+     */
+    public CompressedBitmap ticketsTouchedBy(final User user) {
+        CompressedBitmap ids = new CompressedBitmap();
+        for (Ticket t : assignedTicketsOf(user.getUsername())) {
+            ids.add(t.getId());
+        }
+        if (user.getRole() == Role.DEVELOPER && everAssigned.containsKey(user.getUsername())) {
+            ids = CompressedBitmap.or(ids, everAssigned.get(user.getUsername()));
+        }
+        return ids;
+    }
+
+    /**
+     * Tichetele asignate developerului, după prioritate descrescător și apoi id.
+     */
+    public List<Ticket> assignedTicketsOf(final String username) {
+        List<Ticket> result = new ArrayList<>();
+        EnumMap<Priority, TreeSet<Integer>> byPriority = assignedByPriority.get(username);
+        if (byPriority == null) {
+            return result;
+        }
+        Priority[] priorities = Priority.values();
+        for (int i = priorities.length - 1; i >= 0; i--) {
+            TreeSet<Integer> ids = byPriority.get(priorities[i]);
+            if (ids != null) {
+                ids.forEach(id -> result.add(tickets.get(id)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Înregistrează un tichet nou raportat și îl adaugă în indexuri.
+     */
+    public void addTicket(final Ticket t) {
+        tickets.put(t.getId(), t);
+        t.setHistoryLog(historyLog);
+        keywordIndex.add(t);
+        attributeIndex.add(t);
+        orderIndex.add(t);
+    }
+
+    /**
+     * Schimbă statusul tichetului, ținând la zi indexul de atribute.
+     */
+    public void updateStatus(final Ticket t, final Status status) {
+        Status old = t.getStatus();
+        t.setStatus(status);
+        if (old != status) {
+            attributeIndex.statusChanged(t, old, status);
+        }
+    }
+
+    /**
+     * Schimbă prioritatea tichetului, ținând la zi indexul de atribute și cozile pe developer.
+     */
+    public void updatePriority(final Ticket t, final Priority priority) {
+        Priority old = t.getBusinessPriority();
+        if (old == priority) {
+            return;
+        }
+        unqueueAssigned(t);
+        t.setBusinessPriority(priority);
+        queueAssigned(t);
+        attributeIndex.priorityChanged(t, old, priority);
+    }
+
+    /**
+     * Tichetele dintr-un bitmap de id-uri, în ordinea crescătoare a id-ului.
+     */
+    public List<Ticket> ticketsOf(final CompressedBitmap ids) {
+        List<Ticket> result = new ArrayList<>(ids.cardinality());
+        ids.forEach(id -> result.add(tickets.get(id)));
+        return result;
+    }
+
+    /**
+     * Ca ticketsInOrder, dar leneș: paginarea se oprește după limit + 1 tichete fără să le
+     * materializeze pe celelalte.
+     */
+    public Stream<Ticket> streamInOrder(final CompressedBitmap ids) {
+        if (orderIndex.isIdOrdered()) {
+            return ids.stream().mapToObj(tickets::get);
+        }
+        return orderIndex.all().stream().filter(t -> ids.contains(t.getId()));
+    }
+
+    /**
+     * Tichetele dintr-un bitmap de id-uri, în ordinea (createdAt, id), fără sortare.
+     */
+    public List<Ticket> ticketsInOrder(final CompressedBitmap ids) {
+        if (orderIndex.isIdOrdered()) {
+            return ticketsOf(ids);
+        }
+        List<Ticket> result = new ArrayList<>(ids.cardinality());
+        for (Ticket t : orderIndex.all()) {
+            if (ids.contains(t.getId())) {
+                result.add(t);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tichetele OPEN din milestone-urile în care e asignat developerul.
+     */
+    public CompressedBitmap openTicketsVisibleTo(final String username) {
+        CompressedBitmap milestoneIds = new CompressedBitmap();
+        for (Milestone m : milestones) {
+            if (m.getAssignedDevs().contains(username)) {
+                m.getTickets().forEach(milestoneIds::add);
+            }
+        }
+        return CompressedBitmap.and(milestoneIds, attributeIndex.withStatus(Status.OPEN));
     }
 
     public int getNextTicketId() {
@@ -189,40 +461,22 @@ public class TicketSystem {
         if (t.getAssignedTo() != null) {
             User u = users.get(t.getAssignedTo());
             if (u instanceof Developer && !canAccess((Developer) u, t)) {
-                t.setAssignedTo(null);
-                t.setStatus(Status.OPEN);
-
-                HistoryEntry entry = new HistoryEntry();
-                entry.setTimestamp(date);
-                entry.setBy("SYSTEM");
-                entry.setAction("AUTO_UNASSIGN");
-                entry.setDescription("Ticket unassigned: priority " + t.getBusinessPriority() + " exceeds dev seniority");
-                t.addHistoryEntry(entry);
+                setAssignee(t, null);
+                updateStatus(t, Status.OPEN);
+
+                historyLog.autoUnassign(t, date, t.getBusinessPriority());
             }
         }
     }
 
     // Facem metoda publică pentru acces din CommandRunner (validare asignare)
+    // Blocat = cel puțin o dependență mai are tichete ne-închise
+    // (ținut la zi de markClosed / clearClosed)
     public boolean isMilestoneBlocked(Milestone milestone) {
-        if (milestone == null) return false;
-        if (milestone.getDependsOn() != null) {
-            for (String depName : milestone.getDependsOn()) {
-                Milestone dep = findMilestoneByName(depName);
-                if (dep == null) continue;
-                boolean allClosed = true;
-                if (dep.getTickets() != null) {
-                    for (Integer tid : dep.getTickets()) {
-                        Ticket t = tickets.get(tid);
-                        if (t != null && t.getStatus() != Status.CLOSED) {
-                            allClosed = false;
-                            break;
-                        }
-                    }
-                }
-                if (!allClosed) return true;
-            }
+        if (milestone == null || milestone.getSummary() == null) {
+            return false;
         }
-        return false;
+        return milestone.getSummary().isBlocked();
     }
 
 
@@ -240,19 +494,14 @@ public class TicketSystem {
             for (Integer tid : milestone.getTickets()) {
                 Ticket t = tickets.get(tid);
                 if (t != null && t.getStatus() == Status.BLOCKED) {
-                    t.setStatus(t.getAssignedTo() != null ? Status.IN_PROGRESS : Status.OPEN);
-
-                    HistoryEntry entry = new HistoryEntry();
-                    entry.setTimestamp(currentDate);
-                    entry.setBy("SYSTEM");
-                    entry.setAction("MILESTONE_UNBLOCKED");
-                    entry.setDescription("Milestone unblocked");
-                    t.addHistoryEntry(entry);
+                    updateStatus(t, t.getAssignedTo() != null ? Status.IN_PROGRESS : Status.OPEN);
+
+                    historyLog.record(t, currentDate, HistoryAction.MILESTONE_UNBLOCKED, "SYSTEM");
                 }
 
                 if (overdue && t != null && t.getStatus() != Status.CLOSED && t.getStatus() != Status.RESOLVED) {
                     if (t.getBusinessPriority() != Priority.CRITICAL) {
-                        t.setBusinessPriority(Priority.CRITICAL);
+                        updatePriority(t, Priority.CRITICAL);
                         // Opțional istoric aici
                     }
                 }
@@ -264,13 +513,126 @@ public class TicketSystem {
         }
     }
 
-    public void attach(Observer o) { observers.add(o); }
-    public void detach(Observer o) { observers.remove(o); }
+    /**
+     * Înregistrează închiderea tichetului și o adaugă în agregatele lunare
+     * ale developerului căruia îi este asignat.
+     */
+    public void markClosed(final Ticket t, final String date) {
+        LocalDate closedAt = LocalDate.parse(date);
+        t.setClosedEpochDay(closedAt.toEpochDay());
+        Milestone m = milestoneByTicket.get(t.getId());
+        if (m != null) {
+            boolean wasComplete = m.getSummary().isComplete();
+            m.getSummary().onClosed(t.getId(), t.getClosedEpochDay());
+            if (!wasComplete && m.getSummary().isComplete()) {
+                for (Milestone dependent : m.getSummary().getDependents()) {
+                    dependent.getSummary().dependencyCompleted();
+                }
+            }
+        }
+        if (t.getAssignedTo() != null) {
+            performanceRollups.computeIfAbsent(t.getAssignedTo(), k -> new HashMap<>())
+                    .computeIfAbsent(YearMonth.from(closedAt), k -> new PerformanceRollup())
+                    .add(t, resolutionDays(t));
+        }
+    }
+
+    /**
+     * Anulează efectul lui markClosed; trebuie apelată înainte ca tichetul
+     * să-și schimbe statusul sau developerul.
+     */
+    public void clearClosed(final Ticket t) {
+        if (t.getClosedEpochDay() == null) {
+            return;
+        }
+        if (t.getAssignedTo() != null) {
+            YearMonth month = YearMonth.from(LocalDate.ofEpochDay(t.getClosedEpochDay()));
+            Map<YearMonth, PerformanceRollup> byMonth = performanceRollups.get(t.getAssignedTo());
+            if (byMonth != null && byMonth.containsKey(month)) {
+                byMonth.get(month).remove(t, resolutionDays(t));
+            }
+        }
+        Milestone m = milestoneByTicket.get(t.getId());
+        if (m != null) {
+            boolean wasComplete = m.getSummary().isComplete();
+            m.getSummary().onReopened(t.getId(), t.getClosedEpochDay());
+            if (wasComplete && !m.getSummary().isComplete()) {
+                for (Milestone dependent : m.getSummary().getDependents()) {
+                    dependent.getSummary().dependencyReopened();
+                }
+            }
+        }
+        t.setClosedEpochDay(null);
+    }
+
+    /**
+     * Agregatele tichetelor închise de developer în luna dată (gol dacă nu există).
+     */
+    public PerformanceRollup getPerformanceRollup(final String developer, final YearMonth month) {
+        Map<YearMonth, PerformanceRollup> byMonth = performanceRollups.get(developer);
+        if (byMonth == null || !byMonth.containsKey(month)) {
+            return new PerformanceRollup();
+        }
+        return byMonth.get(month);
+    }
+
+    private long resolutionDays(final Ticket t) {
+        if (t.getAssignedAt() == null || t.getSolvedAt() == null) {
+            return 0;
+        }
+        return ChronoUnit.DAYS.between(LocalDate.parse(t.getAssignedAt()),
+                LocalDate.parse(t.getSolvedAt())) + 1;
+    }
+
+    /**
+     * Abonează developerii asignați milestone-ului la topic-ul lui; apelat de CreateMilestone.
+     */
+    public void subscribeDevs(final Milestone m) {
+        for (String dev : m.getAssignedDevs()) {
+            User u = users.get(dev);
+            if (u != null) {
+                topics.subscribe(m, u);
+            }
+        }
+    }
+
+    /**
+     * Notifică developerii asignați milestone-ului (și sink-urile externe, dacă sunt configurate).
+     */
+    public void notifyDevs(final Milestone m, final String message) {
+        topics.publish(m, message);
+        if (dispatcher.isEnabled()) {
+            List<String> emails = new ArrayList<>();
+            for (String dev : m.getAssignedDevs()) {
+                User u = users.get(dev);
+                if (u != null && u.getEmail() != null) {
+                    emails.add(u.getEmail());
+                }
+            }
+            dispatcher.publish(new NotificationEvent("milestone " + m.getName(), currentDate,
+                    m.getAssignedDevs(), emails, message));
+        }
+    }
+
+    /**
+     * Abonează observatorul la notificările broadcast.
+     */
+    public void attach(final Observer o) {
+        topics.subscribe(NotificationTopics.BROADCAST, o);
+    }
+
+    /**
+     * Dezabonează observatorul de la notificările broadcast.
+     */
+    public void detach(final Observer o) {
+        topics.unsubscribe(NotificationTopics.BROADCAST, o);
+    }
 
-    // Generic notification loop
     public void notifyObservers(String message) {
-        for (Observer o : observers) {
-            o.update(message);
+        topics.publish(NotificationTopics.BROADCAST, message);
+        if (dispatcher.isEnabled()) {
+            dispatcher.publish(new NotificationEvent("broadcast", currentDate, List.of(),
+                    List.of(), message));
         }
     }
 
@@ -0,0 +1,66 @@
+package services;
+
+import models.NotificationEvent;
+import utils.JsonContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Trimite notificările ca linii NDJSON pe un socket Unix-domain. Conexiunea e deschisă
+ * la primul lot și refăcută după o eroare; dispatcher-ul retrimite doar liniile care nu
+ * au fost scrise complet pe conexiunea veche.
+ */
+public final class UnixSocketSink implements NotificationSink {
+    private final Path socketPath;
+    private SocketChannel channel;
+
+    public UnixSocketSink(final Path socketPath) {
+        this.socketPath = socketPath;
+    }
+
+    @Override
+    public String name() {
+        return "uds:" + socketPath;
+    }
+
+    @Override
+    public void deliver(final List<NotificationEvent> batch) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        int[] lineEnds = new int[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            lines.write(JsonContext.EVENT_WRITER.writeValueAsBytes(batch.get(i)));
+            lines.write('\n');
+            lineEnds[i] = lines.size();
+        }
+        ByteBuffer buf = ByteBuffer.wrap(lines.toByteArray());
+        try {
+            if (channel == null) {
+                channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+                channel.connect(UnixDomainSocketAddress.of(socketPath));
+            }
+            while (buf.hasRemaining()) {
+                channel.write(buf);
+            }
+        } catch (IOException e) {
+            close();
+            int delivered = NdjsonFileSink.completeLines(lineEnds, buf.position());
+            throw new PartialDeliveryException(delivered, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            SocketChannel c = channel;
+            channel = null;
+            c.close();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package utils;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * InputStream peste un ByteBuffer (de regulă o regiune mapată în memorie), citit de la
+ * poziția curentă până la limită. Nu e thread-safe; fiecare cititor își ia propriul buffer.
+ */
+public final class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buf;
+
+    public ByteBufferInputStream(final ByteBuffer buf) {
+        this.buf = buf;
+    }
+
+    @Override
+    public int read() {
+        return buf.hasRemaining() ? Byte.toUnsignedInt(buf.get()) : -1;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!buf.hasRemaining()) {
+            return -1;
+        }
+        int n = Math.min(len, buf.remaining());
+        buf.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(final long n) {
+        int k = (int) Math.max(0, Math.min(n, buf.remaining()));
+        buf.position(buf.position() + k);
+        return k;
+    }
+
+    @Override
+    public int available() {
+        return buf.remaining();
+    }
+}
@@ -0,0 +1,475 @@
+package utils;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Bitmap comprimat în stilul Roaring peste id-uri int nenegative.
+ * Id-urile sunt împărțite în blocuri de 2^16 după cei 16 biți superiori; fiecare bloc
+ * e fie un vector sortat de char (puține elemente), fie un bitmap de 1024 long-uri
+ * (bloc dens). Operațiile AND / OR și numărătorile lucrează direct pe containere.
+ */
+public final class CompressedBitmap {
+    private static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1024;
+    // Cheia unui bloc sunt cei 16 biți superiori; un long acoperă 2^6 valori din bloc
+    private static final int KEY_SHIFT = Character.SIZE;
+    private static final int WORD_SHIFT = 6;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private char[] keys = new char[INITIAL_CAPACITY];
+    private Container[] containers = new Container[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * @param x id-ul de adăugat (nenegativ)
+     */
+    public void add(final int x) {
+        char key = (char) (x >>> KEY_SHIFT);
+        int i = indexOf(key);
+        if (i < 0) {
+            i = -i - 1;
+            insertAt(i, key, new ArrayContainer());
+        }
+        containers[i] = containers[i].add((char) x);
+    }
+
+    /**
+     * @param x id-ul de scos; un id absent e ignorat
+     */
+    public void remove(final int x) {
+        int i = indexOf((char) (x >>> KEY_SHIFT));
+        if (i < 0) {
+            return;
+        }
+        containers[i] = containers[i].remove((char) x);
+        if (containers[i].cardinality() == 0) {
+            removeAt(i);
+        }
+    }
+
+    /**
+     * @param x id-ul căutat
+     * @return true dacă id-ul e în bitmap
+     */
+    public boolean contains(final int x) {
+        int i = indexOf((char) (x >>> KEY_SHIFT));
+        return i >= 0 && containers[i].contains((char) x);
+    }
+
+    /**
+     * @return numărul de id-uri din bitmap
+     */
+    public int cardinality() {
+        int card = 0;
+        for (int i = 0; i < size; i++) {
+            card += containers[i].cardinality();
+        }
+        return card;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Scoate toate id-urile.
+     */
+    public void clear() {
+        keys = new char[INITIAL_CAPACITY];
+        containers = new Container[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * @return un bitmap nou cu intersecția; a și b rămân neschimbate
+     */
+    public static CompressedBitmap and(final CompressedBitmap a, final CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0, j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                Container c = a.containers[i].and(b.containers[j]);
+                if (c.cardinality() > 0) {
+                    result.insertAt(result.size, a.keys[i], c);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return un bitmap nou cu reuniunea; a și b rămân neschimbate
+     */
+    public static CompressedBitmap or(final CompressedBitmap a, final CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0, j = 0;
+        while (i < a.size || j < b.size) {
+            if (j >= b.size || (i < a.size && a.keys[i] < b.keys[j])) {
+                result.insertAt(result.size, a.keys[i], a.containers[i].copy());
+                i++;
+            } else if (i >= a.size || a.keys[i] > b.keys[j]) {
+                result.insertAt(result.size, b.keys[j], b.containers[j].copy());
+                j++;
+            } else {
+                result.insertAt(result.size, a.keys[i], a.containers[i].or(b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * |a AND b| fără să materializeze intersecția.
+     */
+    public static int andCardinality(final CompressedBitmap a, final CompressedBitmap b) {
+        int card = 0;
+        int i = 0, j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                card += a.containers[i++].and(b.containers[j++]).cardinality();
+            }
+        }
+        return card;
+    }
+
+    /**
+     * Parcurge id-urile în ordine crescătoare.
+     */
+    public void forEach(final IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            int high = keys[i] << KEY_SHIFT;
+            containers[i].forEach(low -> action.accept(high | low));
+        }
+    }
+
+    /**
+     * Cel mai mic id >= from din bitmap, sau -1 dacă nu există (ca BitSet.nextSetBit).
+     */
+    public int nextSetBit(final int from) {
+        if (from < 0) {
+            return -1;
+        }
+        int i = indexOf((char) (from >>> KEY_SHIFT));
+        if (i >= 0) {
+            int low = containers[i].next((char) from);
+            if (low >= 0) {
+                return keys[i] << KEY_SHIFT | low;
+            }
+            i++;
+        } else {
+            i = -i - 1;
+        }
+        return i < size ? keys[i] << KEY_SHIFT | containers[i].next((char) 0) : -1;
+    }
+
+    /**
+     * Id-urile în ordine crescătoare, leneș: un consumator care se oprește devreme
+     * (limit, findFirst) nu parcurge restul bitmap-ului.
+     */
+    public IntStream stream() {
+        return IntStream.iterate(nextSetBit(0), x -> x >= 0, x -> nextSetBit(x + 1));
+    }
+
+    /**
+     * @return id-urile în ordine crescătoare
+     */
+    public int[] toArray() {
+        int[] out = new int[cardinality()];
+        int[] pos = {0};
+        forEach(x -> out[pos[0]++] = x);
+        return out;
+    }
+
+    private int indexOf(final char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insertAt(final int i, final char key, final Container c) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, i, keys, i + 1, size - i);
+        System.arraycopy(containers, i, containers, i + 1, size - i);
+        keys[i] = key;
+        containers[i] = c;
+        size++;
+    }
+
+    private void removeAt(final int i) {
+        System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+        System.arraycopy(containers, i + 1, containers, i, size - i - 1);
+        containers[--size] = null;
+    }
+
+    private abstract static class Container {
+        abstract Container add(char x);
+        abstract Container remove(char x);
+        abstract boolean contains(char x);
+        abstract int cardinality();
+        abstract Container and(Container other);
+        abstract Container or(Container other);
+        abstract Container copy();
+        abstract void forEach(IntConsumer action);
+        // Cel mai mic element >= from, sau -1
+        abstract int next(char from);
+    }
+
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int card;
+
+        ArrayContainer() {
+            this(new char[INITIAL_CAPACITY], 0);
+        }
+
+        ArrayContainer(final char[] values, final int card) {
+            this.values = values;
+            this.card = card;
+        }
+
+        @Override
+        Container add(final char x) {
+            int i = Arrays.binarySearch(values, 0, card, x);
+            if (i >= 0) {
+                return this;
+            }
+            if (card >= ARRAY_MAX) {
+                return toBitmap().add(x);
+            }
+            i = -i - 1;
+            if (card == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, card * 2));
+            }
+            System.arraycopy(values, i, values, i + 1, card - i);
+            values[i] = x;
+            card++;
+            return this;
+        }
+
+        @Override
+        Container remove(final char x) {
+            int i = Arrays.binarySearch(values, 0, card, x);
+            if (i < 0) {
+                return this;
+            }
+            System.arraycopy(values, i + 1, values, i, card - i - 1);
+            card--;
+            return this;
+        }
+
+        @Override
+        boolean contains(final char x) {
+            return Arrays.binarySearch(values, 0, card, x) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return card;
+        }
+
+        @Override
+        Container and(final Container other) {
+            char[] out = new char[card];
+            int n = 0;
+            if (other instanceof ArrayContainer o) {
+                int i = 0, j = 0;
+                while (i < card && j < o.card) {
+                    if (values[i] < o.values[j]) {
+                        i++;
+                    } else if (values[i] > o.values[j]) {
+                        j++;
+                    } else {
+                        out[n++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < card; i++) {
+                    if (other.contains(values[i])) {
+                        out[n++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(out, n);
+        }
+
+        @Override
+        Container or(final Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.or(this);
+            }
+            ArrayContainer o = (ArrayContainer) other;
+            char[] out = new char[card + o.card];
+            int i = 0, j = 0, n = 0;
+            while (i < card || j < o.card) {
+                if (j >= o.card || (i < card && values[i] < o.values[j])) {
+                    out[n++] = values[i++];
+                } else if (i >= card || values[i] > o.values[j]) {
+                    out[n++] = o.values[j++];
+                } else {
+                    out[n++] = values[i++];
+                    j++;
+                }
+            }
+            ArrayContainer merged = new ArrayContainer(out, n);
+            return n > ARRAY_MAX ? merged.toBitmap() : merged;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(card, 1)), card);
+        }
+
+        @Override
+        void forEach(final IntConsumer action) {
+            for (int i = 0; i < card; i++) {
+                action.accept(values[i]);
+            }
+        }
+
+        @Override
+        int next(final char from) {
+            int i = Arrays.binarySearch(values, 0, card, from);
+            if (i < 0) {
+                i = -i - 1;
+            }
+            return i < card ? values[i] : -1;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer b = new BitmapContainer();
+            for (int i = 0; i < card; i++) {
+                b.add(values[i]);
+            }
+            return b;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private int card;
+
+        BitmapContainer() {
+            this(new long[WORDS], 0);
+        }
+
+        BitmapContainer(final long[] words, final int card) {
+            this.words = words;
+            this.card = card;
+        }
+
+        @Override
+        Container add(final char x) {
+            long before = words[x >>> WORD_SHIFT];
+            words[x >>> WORD_SHIFT] |= 1L << x;
+            if (before != words[x >>> WORD_SHIFT]) {
+                card++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(final char x) {
+            long before = words[x >>> WORD_SHIFT];
+            words[x >>> WORD_SHIFT] &= ~(1L << x);
+            if (before != words[x >>> WORD_SHIFT]) {
+                card--;
+            }
+            return card <= ARRAY_MAX ? toArrayContainer() : this;
+        }
+
+        @Override
+        boolean contains(final char x) {
+            return (words[x >>> WORD_SHIFT] & (1L << x)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return card;
+        }
+
+        @Override
+        Container and(final Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            long[] o = ((BitmapContainer) other).words;
+            long[] out = new long[WORDS];
+            int n = 0;
+            for (int i = 0; i < WORDS; i++) {
+                out[i] = words[i] & o[i];
+                n += Long.bitCount(out[i]);
+            }
+            BitmapContainer result = new BitmapContainer(out, n);
+            return n <= ARRAY_MAX ? result.toArrayContainer() : result;
+        }
+
+        @Override
+        Container or(final Container other) {
+            long[] out = words.clone();
+            if (other instanceof BitmapContainer b) {
+                for (int i = 0; i < WORDS; i++) {
+                    out[i] |= b.words[i];
+                }
+            } else {
+                other.forEach(x -> out[x >>> WORD_SHIFT] |= 1L << x);
+            }
+            int n = 0;
+            for (long w : out) {
+                n += Long.bitCount(w);
+            }
+            return new BitmapContainer(out, n);
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), card);
+        }
+
+        @Override
+        void forEach(final IntConsumer action) {
+            for (int i = 0; i < WORDS; i++) {
+                long w = words[i];
+                while (w != 0) {
+                    action.accept((i << WORD_SHIFT) + Long.numberOfTrailingZeros(w));
+                    w &= w - 1;
+                }
+            }
+        }
+
+        @Override
+        int next(final char from) {
+            int i = from >>> WORD_SHIFT;
+            long w = words[i] & (-1L << from);
+            while (w == 0) {
+                if (++i == WORDS) {
+                    return -1;
+                }
+                w = words[i];
+            }
+            return (i << WORD_SHIFT) + Long.numberOfTrailingZeros(w);
+        }
+
+        private ArrayContainer toArrayContainer() {
+            char[] out = new char[Math.max(card, 1)];
+            int[] n = {0};
+            forEach(x -> out[n[0]++] = (char) x);
+            return new ArrayContainer(out, card);
+        }
+    }
+}
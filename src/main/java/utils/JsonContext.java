@@ -0,0 +1,67 @@
+package utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import commands.CommandInput;
+import models.Comment;
+import models.HistoryEntry;
+import models.NotificationEvent;
+import models.User;
+
+import java.util.List;
+
+/**
+ * ObjectMapper-ul comun al aplicației, configurat o singură dată. Un ObjectMapper e thread-safe
+ * după configurare și își păstrează cache-urile de (de)serializatori, așa că toate comenzile,
+ * CommandRunner, TicketFactory, App și sink-urile folosesc aceeași instanță.
+ * Reader-ele / writer-ele de mai jos își rezolvă serializatorul rădăcină la construcție.
+ */
+public final class JsonContext {
+    private static final String BLACKBIRD =
+            "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+    public static final ObjectMapper MAPPER = createMapper();
+
+    // Un enum invalid într-o comandă nu trebuie să invalideze tot fișierul de input; TicketFactory
+    // respinge tichetele fără prioritate validă, restul câmpurilor enum rămân opționale ca înainte
+    public static final ObjectReader COMMANDS_READER =
+            MAPPER.readerFor(new TypeReference<List<CommandInput>>() { })
+                    .with(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL);
+    public static final ObjectReader USERS_READER =
+            MAPPER.readerFor(new TypeReference<List<User>>() { });
+
+    public static final ObjectWriter PRETTY_WRITER = MAPPER.writer().withDefaultPrettyPrinter();
+    public static final ObjectWriter COMMENT_WRITER = MAPPER.writerFor(Comment.class);
+    public static final ObjectWriter HISTORY_WRITER = MAPPER.writerFor(HistoryEntry.class);
+    public static final ObjectWriter USER_WRITER = MAPPER.writerFor(User.class);
+    public static final ObjectWriter EVENT_WRITER = MAPPER.writerFor(NotificationEvent.class);
+
+    private JsonContext() {
+    }
+
+    private static ObjectMapper createMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        // Avem nevoie de JavaTimeModule pentru a parsa corect LocalDate ("yyyy-MM-dd")
+        mapper.registerModule(new JavaTimeModule());
+        // Dezactivăm scrierea datelor ca timestamp numeric (vrem string-uri)
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        // Blackbird (accesori generați prin LambdaMetafactory) doar dacă e pe classpath;
+        // -Djson.blackbird=false îl oprește
+        if (!"false".equals(System.getProperty("json.blackbird"))) {
+            try {
+                Object blackbird = Class.forName(BLACKBIRD).getDeclaredConstructor().newInstance();
+                mapper.registerModule((Module) blackbird);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // modulul lipsește: rămânem pe accesorii prin reflecție
+            }
+        }
+        return mapper;
+    }
+}
@@ -0,0 +1,190 @@
+package utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import models.Comment;
+import models.HistoryEntry;
+import models.Ticket;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Serializatoare scrise de mână pentru modelele din răspunsuri, direct pe un JsonGenerator.
+ * Ordinea câmpurilor și tratarea lui null sunt cele produse înainte prin ObjectNode / valueToTree,
+ * ca output-ul să rămână identic la byte.
+ */
+public final class JsonWriters {
+    private JsonWriters() {
+    }
+
+    /**
+     * Câmpurile comune ale unui tichet (fostul BaseCommand.ticketObject), fără start/end object.
+     * wants filtrează câmpurile pentru proiecția "fields" din paginare.
+     */
+    public static void writeTicketFields(final JsonGenerator g, final Ticket t,
+                                         final Predicate<String> wants) throws IOException {
+        if (wants.test("id")) {
+            g.writeNumberField("id", t.getId());
+        }
+        if (wants.test("type")) {
+            g.writeStringField("type", t.getType());
+        }
+        if (wants.test("title")) {
+            g.writeStringField("title", t.getTitle());
+        }
+        if (wants.test("businessPriority")) {
+            g.writeStringField("businessPriority", t.getBusinessPriority().toString());
+        }
+        if (wants.test("status")) {
+            g.writeStringField("status", t.getStatus().toString());
+        }
+        if (wants.test("createdAt")) {
+            g.writeStringField("createdAt", t.getCreatedAt());
+        }
+    }
+
+    /**
+     * Un tichet din viewTickets: câmpurile comune, apoi cele de asignare ("" pentru null)
+     * și comentariile.
+     */
+    public static void writeListTicket(final JsonGenerator g, final Ticket t,
+                                       final Predicate<String> wants) throws IOException {
+        g.writeStartObject();
+        writeTicketFields(g, t, wants);
+        if (wants.test("assignedAt")) {
+            g.writeStringField("assignedAt", t.getAssignedAt() == null ? "" : t.getAssignedAt());
+        }
+        if (wants.test("solvedAt")) {
+            g.writeStringField("solvedAt", t.getSolvedAt() == null ? "" : t.getSolvedAt());
+        }
+        if (wants.test("assignedTo")) {
+            g.writeStringField("assignedTo", t.getAssignedTo() == null ? "" : t.getAssignedTo());
+        }
+        if (wants.test("reportedBy")) {
+            g.writeStringField("reportedBy", t.getReportedBy() == null ? "" : t.getReportedBy());
+        }
+        if (wants.test("comments")) {
+            g.writeFieldName("comments");
+            writeComments(g, t.getComments());
+        }
+        g.writeEndObject();
+    }
+
+    /**
+     * Un tichet din viewAssignedTickets (assignedAt rămâne null dacă lipsește).
+     */
+    public static void writeAssignedTicket(final JsonGenerator g, final Ticket t)
+            throws IOException {
+        g.writeStartObject();
+        writeTicketFields(g, t, f -> true);
+        g.writeStringField("assignedAt", t.getAssignedAt());
+        g.writeStringField("reportedBy", t.getReportedBy());
+        g.writeFieldName("comments");
+        writeComments(g, t.getComments());
+        g.writeEndObject();
+    }
+
+    /**
+     * Un tichet din rezultatele search; matched e null când cererea nu are filtru de keywords.
+     */
+    public static void writeSearchTicket(final JsonGenerator g, final Ticket t,
+                                         final Predicate<String> wants,
+                                         final List<String> matched) throws IOException {
+        g.writeStartObject();
+        writeTicketFields(g, t, wants);
+        if (wants.test("solvedAt")) {
+            g.writeStringField("solvedAt", t.getSolvedAt() == null ? "" : t.getSolvedAt());
+        }
+        if (wants.test("reportedBy")) {
+            g.writeStringField("reportedBy", t.getReportedBy());
+        }
+        if (matched != null && wants.test("matchingWords")) {
+            g.writeFieldName("matchingWords");
+            writeStrings(g, matched);
+        }
+        g.writeEndObject();
+    }
+
+    /**
+     * Lista de comentarii ca array JSON.
+     */
+    public static void writeComments(final JsonGenerator g, final List<Comment> comments)
+            throws IOException {
+        g.writeStartArray();
+        for (Comment c : comments) {
+            writeComment(g, c);
+        }
+        g.writeEndArray();
+    }
+
+    /**
+     * Un comentariu: author, content, createdAt.
+     */
+    public static void writeComment(final JsonGenerator g, final Comment c) throws IOException {
+        g.writeStartObject();
+        g.writeStringField("author", c.getAuthor());
+        g.writeStringField("content", c.getContent());
+        g.writeStringField("createdAt", c.getCreatedAt());
+        g.writeEndObject();
+    }
+
+    /**
+     * HistoryEntry are @JsonInclude(NON_NULL): câmpurile null lipsesc.
+     */
+    public static void writeHistoryEntry(final JsonGenerator g, final HistoryEntry e)
+            throws IOException {
+        g.writeStartObject();
+        writeIfPresent(g, "milestone", e.getMilestone());
+        writeIfPresent(g, "from", e.getFrom());
+        writeIfPresent(g, "to", e.getTo());
+        writeIfPresent(g, "by", e.getBy());
+        writeIfPresent(g, "timestamp", e.getTimestamp());
+        writeIfPresent(g, "action", e.getAction());
+        writeIfPresent(g, "description", e.getDescription());
+        g.writeEndObject();
+    }
+
+    /**
+     * Array de string-uri; null dacă lista e null.
+     */
+    public static void writeStrings(final JsonGenerator g, final List<String> values)
+            throws IOException {
+        if (values == null) {
+            g.writeNull();
+            return;
+        }
+        g.writeStartArray();
+        for (String v : values) {
+            g.writeString(v);
+        }
+        g.writeEndArray();
+    }
+
+    /**
+     * Array de numere (elementele null rămân null); null dacă lista e null.
+     */
+    public static void writeInts(final JsonGenerator g, final List<Integer> values)
+            throws IOException {
+        if (values == null) {
+            g.writeNull();
+            return;
+        }
+        g.writeStartArray();
+        for (Integer v : values) {
+            if (v == null) {
+                g.writeNull();
+            } else {
+                g.writeNumber(v);
+            }
+        }
+        g.writeEndArray();
+    }
+
+    private static void writeIfPresent(final JsonGenerator g, final String field,
+                                       final String value) throws IOException {
+        if (value != null) {
+            g.writeStringField(field, value);
+        }
+    }
+}
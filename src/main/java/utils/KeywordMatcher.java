@@ -0,0 +1,130 @@
+package utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+
+/**
+ * Automat Aho-Corasick construit o dată per cerere de search din lista "keywords".
+ * Scanează textul (deja lowercase) o singură dată și raportează toate keyword-urile
+ * conținute, cu aceeași semantică și ordine ca String.contains + sortare.
+ */
+public final class KeywordMatcher {
+    // Keyword-urile originale, sortate și fără duplicate (ordinea din matchingWords)
+    private final List<String> sorted;
+    // Forma lowercase a fiecărui keyword -> indicii din "sorted" care o au
+    private final List<String> needles = new ArrayList<>();
+    private final List<int[]> needleKeywords = new ArrayList<>();
+
+    private final List<Map<Character, Integer>> next = new ArrayList<>();
+    private final List<List<Integer>> outputs = new ArrayList<>();
+    private int[] fail;
+    private final BitSet alwaysMatched = new BitSet();
+
+    public KeywordMatcher(final List<String> keywords) {
+        this.sorted = new ArrayList<>(new TreeSet<>(keywords));
+
+        Map<String, List<Integer>> byNeedle = new LinkedHashMap<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            byNeedle.computeIfAbsent(sorted.get(i).toLowerCase(), k -> new ArrayList<>()).add(i);
+        }
+        byNeedle.forEach((needle, idx) -> {
+            needles.add(needle);
+            needleKeywords.add(idx.stream().mapToInt(Integer::intValue).toArray());
+        });
+
+        build();
+    }
+
+    public List<String> getNeedles() {
+        return needles;
+    }
+
+    private void build() {
+        newNode();
+        for (int n = 0; n < needles.size(); n++) {
+            String needle = needles.get(n);
+            if (needle.isEmpty()) {
+                // "".contains("") e mereu adevărat
+                for (int k : needleKeywords.get(n)) {
+                    alwaysMatched.set(k);
+                }
+                continue;
+            }
+            int node = 0;
+            for (int i = 0; i < needle.length(); i++) {
+                Integer child = next.get(node).get(needle.charAt(i));
+                if (child == null) {
+                    child = newNode();
+                    next.get(node).put(needle.charAt(i), child);
+                }
+                node = child;
+            }
+            outputs.get(node).add(n);
+        }
+
+        fail = new int[next.size()];
+        Queue<Integer> queue = new ArrayDeque<>(next.get(0).values());
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (Map.Entry<Character, Integer> e : next.get(node).entrySet()) {
+                int child = e.getValue();
+                int f = fail[node];
+                while (f != 0 && !next.get(f).containsKey(e.getKey())) {
+                    f = fail[f];
+                }
+                Integer target = next.get(f).get(e.getKey());
+                fail[child] = (target != null && target != child) ? target : 0;
+                outputs.get(child).addAll(outputs.get(fail[child]));
+                queue.add(child);
+            }
+        }
+    }
+
+    private int newNode() {
+        next.add(new HashMap<>());
+        outputs.add(new ArrayList<>());
+        return next.size() - 1;
+    }
+
+    /**
+     * Keyword-urile (forma originală, sortate) conținute în text; listă goală dacă nu e niciunul.
+     */
+    public List<String> match(final String text) {
+        // Fără clone(): clone() poate redimensiona BitSet-ul sursă,
+        // iar match rulează din mai multe fire
+        BitSet found = new BitSet();
+        found.or(alwaysMatched);
+        int remaining = needles.contains("") ? needles.size() - 1 : needles.size();
+        boolean[] seen = new boolean[needles.size()];
+        int node = 0;
+        for (int i = 0; i < text.length() && remaining > 0; i++) {
+            char c = text.charAt(i);
+            while (node != 0 && !next.get(node).containsKey(c)) {
+                node = fail[node];
+            }
+            node = next.get(node).getOrDefault(c, 0);
+            for (int n : outputs.get(node)) {
+                if (seen[n]) {
+                    continue;
+                }
+                seen[n] = true;
+                remaining--;
+                for (int k : needleKeywords.get(n)) {
+                    found.set(k);
+                }
+            }
+        }
+        List<String> result = new ArrayList<>();
+        for (int k = found.nextSetBit(0); k >= 0; k = found.nextSetBit(k + 1)) {
+            result.add(sorted.get(k));
+        }
+        return result;
+    }
+}
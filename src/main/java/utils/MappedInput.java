@@ -0,0 +1,64 @@
+package utils;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Deschide fișierele de input pentru parser. Un fișier obișnuit e mapat în memorie
+ * (FileChannel.map), iar parser-ul citește direct din paginile mapate, fără read()-uri și
+ * fără stratul de BufferedInputStream; pipe-urile și alte fișiere speciale nu pot fi mapate,
+ * așa că pentru ele (și pentru fișierele mici) se folosește citirea bufferizată obișnuită.
+ */
+public final class MappedInput {
+    // Sub acest prag costul mapării depășește citirea bufferizată (ex. users.json de câțiva KB)
+    private static final long MIN_MAPPED = 1L << 16;
+    // O singură mapare e limitată la 2 GB; fișierele mai mari sunt mapate pe ferestre
+    private static final long WINDOW = 1L << 30;
+
+    private MappedInput() {
+    }
+
+    /**
+     * @param path fișierul de citit (poate fi și un pipe, ex. /dev/stdin)
+     * @return un stream peste conținutul fișierului; apelantul îl închide
+     * @throws IOException dacă fișierul nu poate fi deschis sau mapat
+     */
+    public static InputStream open(final Path path) throws IOException {
+        // FileInputStream și nu Files.newInputStream: canalul acestuia face seek în available(),
+        // iar pe un pipe eșuează
+        if (!Files.isRegularFile(path) || Files.size(path) < MIN_MAPPED) {
+            return new BufferedInputStream(new FileInputStream(path.toFile()));
+        }
+
+        // Maparea rămâne validă și după închiderea canalului
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size <= WINDOW) {
+                return new ByteBufferInputStream(map(channel, 0, size));
+            }
+
+            List<InputStream> windows = new ArrayList<>();
+            for (long base = 0; base < size; base += WINDOW) {
+                ByteBuffer window = map(channel, base, Math.min(WINDOW, size - base));
+                windows.add(new ByteBufferInputStream(window));
+            }
+            return new SequenceInputStream(Collections.enumeration(windows));
+        }
+    }
+
+    private static ByteBuffer map(final FileChannel channel, final long position,
+                                  final long size) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+    }
+}
@@ -0,0 +1,181 @@
+package utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * Formatul fișierului de output, ales cu -Doutput.format=pretty|compact|ndjson|smile|cbor.
+ * PRETTY (implicit) e formatul comparat de checker; celelalte pot fi aduse înapoi la el
+ * cu main.OutputConverter.
+ */
+public enum OutputFormat {
+    PRETTY,
+    COMPACT,
+    // Un răspuns per linie, fără array-ul exterior
+    NDJSON,
+    SMILE,
+    CBOR;
+
+    // Citit la primul apel, nu într-un inițializator static: o valoare greșită dă o eroare clară,
+    // nu un ExceptionInInitializerError la prima atingere a clasei
+    private static volatile OutputFormat active;
+
+    /**
+     * Răspunsurile unei rulări, scrise pe rând în fișier pe măsură ce sunt produse.
+     */
+    public interface ResponseWriter extends Closeable {
+        /**
+         * @param res următorul răspuns, scris imediat după cele anterioare
+         * @throws IOException dacă scrierea în fișier eșuează
+         */
+        void write(ObjectNode res) throws IOException;
+    }
+
+    /**
+     * @throws IllegalArgumentException dacă -Doutput.format nu e un format cunoscut
+     */
+    public static OutputFormat fromSystemProperties() {
+        try {
+            return parse(System.getProperty("output.format", "pretty"));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid -Doutput.format: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException pentru un nume de format necunoscut
+     */
+    public static OutputFormat parse(final String name) {
+        for (OutputFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name.trim())) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("unknown output format '" + name.trim()
+                + "', expected pretty, compact, ndjson, smile or cbor");
+    }
+
+    /**
+     * Formatul ales pentru rularea curentă (citit o singură dată, la primul apel).
+     *
+     * @throws IllegalArgumentException dacă -Doutput.format nu e un format cunoscut
+     */
+    public static OutputFormat active() {
+        OutputFormat format = active;
+        if (format == null) {
+            format = fromSystemProperties();
+            active = format;
+        }
+        return format;
+    }
+
+    public boolean isBinary() {
+        return this == SMILE || this == CBOR;
+    }
+
+    /**
+     * Scrie toate răspunsurile deodată, echivalent cu open + write pentru fiecare răspuns.
+     *
+     * @param file    fișierul de output
+     * @param outputs răspunsurile, în ordine
+     * @throws IOException dacă scrierea eșuează
+     */
+    public void write(final File file, final List<ObjectNode> outputs) throws IOException {
+        try (ResponseWriter out = open(file)) {
+            for (ObjectNode res : outputs) {
+                out.write(res);
+            }
+        }
+    }
+
+    /**
+     * Deschide fișierul pentru scrierea răspunsurilor pe rând. Pentru formatele cu array exterior
+     * rezultatul e identic cu write(file, toate răspunsurile), dar niciun răspuns nu trebuie
+     * păstrat după ce a fost scris.
+     */
+    public ResponseWriter open(final File file) throws IOException {
+        if (this == NDJSON) {
+            BufferedWriter lines = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8);
+            return new ResponseWriter() {
+                @Override
+                public void write(final ObjectNode res) throws IOException {
+                    lines.write(JsonContext.MAPPER.writeValueAsString(res));
+                    lines.newLine();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    lines.close();
+                }
+            };
+        }
+        // Fără flush după fiecare răspuns: generatorul își golește bufferul doar când e plin
+        SequenceWriter array = writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .writeValues(file).init(true);
+        return new ResponseWriter() {
+            @Override
+            public void write(final ObjectNode res) throws IOException {
+                array.write(res);
+            }
+
+            @Override
+            public void close() throws IOException {
+                array.close();
+            }
+        };
+    }
+
+    private ObjectWriter writer() {
+        return switch (this) {
+            case PRETTY -> JsonContext.PRETTY_WRITER;
+            case COMPACT, NDJSON -> JsonContext.MAPPER.writer();
+            case SMILE, CBOR -> binaryMapper().writer();
+        };
+    }
+
+    /**
+     * Citește un fișier scris în acest format ca array-ul de răspunsuri.
+     */
+    public ArrayNode read(final File file) throws IOException {
+        if (this == NDJSON) {
+            ArrayNode all = JsonContext.MAPPER.createArrayNode();
+            for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    all.add(JsonContext.MAPPER.readTree(line));
+                }
+            }
+            return all;
+        }
+        ObjectMapper reader = isBinary() ? binaryMapper() : JsonContext.MAPPER;
+        JsonNode root = reader.readTree(file);
+        if (!root.isArray()) {
+            throw new IOException("Expected an array of responses in " + file);
+        }
+        return (ArrayNode) root;
+    }
+
+    private ObjectMapper binaryMapper() {
+        return this == SMILE ? Binary.SMILE : Binary.CBOR;
+    }
+
+    // Mapper-ele binare sunt create doar dacă un format binar e folosit efectiv
+    private static final class Binary {
+        static final ObjectMapper SMILE = new ObjectMapper(new SmileFactory());
+        static final ObjectMapper CBOR = new ObjectMapper(new CBORFactory());
+    }
+}
@@ -0,0 +1,141 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Scanări fork-join peste liste de tichete deja ordonate (ex. id-urile dintr-un bitmap).
+ * Lista e împărțită în intervale contigue, fiecare interval e procesat separat, iar rezultatele
+ * sunt lipite înapoi în ordinea inițială, deci ieșirea e identică cu varianta secvențială.
+ * Sub THRESHOLD elemente totul rulează pe firul curent, fără overhead de fork.
+ */
+public final class ParallelScan {
+    public static final int THRESHOLD = 4096;
+
+    private ParallelScan() {
+    }
+
+    /**
+     * Elementele care satisfac predicatul, în ordinea din listă.
+     * Predicatul trebuie să fie doar de citire.
+     */
+    public static <T> List<T> filter(final List<T> items, final Predicate<? super T> predicate) {
+        if (items.size() < THRESHOLD) {
+            return filterRange(items, predicate, 0, items.size());
+        }
+        FilterTask<T> task = new FilterTask<>(items, predicate, 0, items.size());
+        return ForkJoinPool.commonPool().invoke(task);
+    }
+
+    /**
+     * Valoarea funcției pentru fiecare element, pe aceeași poziție. Agregarea (sume, medii) rămâne
+     * la apelant, secvențială, ca rezultatele în virgulă mobilă să nu depindă de împărțire.
+     */
+    public static <T> double[] mapToDouble(final List<T> items,
+                                           final ToDoubleFunction<? super T> f) {
+        double[] out = new double[items.size()];
+        forEachIndex(items.size(), i -> out[i] = f.applyAsDouble(items.get(i)));
+        return out;
+    }
+
+    /**
+     * Rezultatul funcției pentru fiecare element, în ordinea din listă.
+     */
+    public static <T, R> List<R> map(final List<T> items,
+                                     final Function<? super T, ? extends R> f) {
+        Object[] out = new Object[items.size()];
+        forEachIndex(items.size(), i -> out[i] = f.apply(items.get(i)));
+        @SuppressWarnings("unchecked")
+        List<R> result = (List<R>) Arrays.asList(out);
+        return result;
+    }
+
+    private static void forEachIndex(final int n, final IntConsumer action) {
+        if (n < THRESHOLD) {
+            for (int i = 0; i < n; i++) {
+                action.accept(i);
+            }
+        } else {
+            ForkJoinPool.commonPool().invoke(new RangeTask(action, 0, n));
+        }
+    }
+
+    private static <T> List<T> filterRange(final List<T> items,
+                                           final Predicate<? super T> predicate,
+                                           final int from, final int to) {
+        List<T> result = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            if (predicate.test(items.get(i))) {
+                result.add(items.get(i));
+            }
+        }
+        return result;
+    }
+
+    private static final class FilterTask<T> extends RecursiveTask<List<T>> {
+        private static final long serialVersionUID = 1L;
+
+        // Task-urile nu sunt serializate niciodată;
+        // câmpurile sunt transient doar pentru contractul Serializable
+        private final transient List<T> items;
+        private final transient Predicate<? super T> predicate;
+        private final int from;
+        private final int to;
+
+        FilterTask(final List<T> items, final Predicate<? super T> predicate,
+                   final int from, final int to) {
+            this.items = items;
+            this.predicate = predicate;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<T> compute() {
+            if (to - from <= THRESHOLD) {
+                return filterRange(items, predicate, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            FilterTask<T> left = new FilterTask<>(items, predicate, from, mid);
+            left.fork();
+            List<T> right = new FilterTask<>(items, predicate, mid, to).compute();
+            List<T> result = left.join();
+            result.addAll(right);
+            return result;
+        }
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient IntConsumer action;
+        private final int from;
+        private final int to;
+
+        RangeTask(final IntConsumer action, final int from, final int to) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(action, from, mid), new RangeTask(action, mid, to));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package utils;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Internează nume (useri, milestone-uri) în id-uri int dense; null are id-ul -1.
+ * Fiecare TicketSystem are tabela lui, folosită doar de HistoryLog: modelele țin numele ca
+ * String, deci golirea tabelei la reset nu lasă id-uri invalide în obiecte încă vii.
+ * Doar intern() ia lock-ul; nameOf() și idOf() citesc fără sincronizare, deci istoricul
+ * poate fi citit din workerii ParallelScan fără contenție.
+ */
+public final class SymbolTable {
+    public static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    // Scris doar sub lock; referința volatile publică fiecare nume adăugat
+    // (și array-ul nou la creștere)
+    private volatile String[] names = new String[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * @param name numele de internat (poate fi null)
+     * @return id-ul numelui, alocat la prima apariție; NONE pentru null
+     */
+    public synchronized int intern(final String name) {
+        if (name == null) {
+            return NONE;
+        }
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        String[] current = names;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, size * 2);
+        }
+        current[size] = name;
+        names = current;
+        ids.put(name, size);
+        return size++;
+    }
+
+    /**
+     * Id-ul unui nume deja internat, fără să-l adauge; NONE dacă nu există.
+     */
+    public int idOf(final String name) {
+        if (name == null) {
+            return NONE;
+        }
+        return ids.getOrDefault(name, NONE);
+    }
+
+    /**
+     * @param id un id întors de intern
+     * @return numele internat, sau null pentru NONE
+     */
+    public String nameOf(final int id) {
+        return id == NONE ? null : names[id];
+    }
+
+    /**
+     * Uită toate numele (la reset-ul sistemului).
+     */
+    public synchronized void clear() {
+        ids.clear();
+        names = new String[INITIAL_CAPACITY];
+        size = 0;
+    }
+}
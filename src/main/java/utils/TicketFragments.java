@@ -0,0 +1,50 @@
+package utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import models.Ticket;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Cache per tichet cu proiecțiile folosite des (viewTickets, viewAssignedTickets, search),
+ * valid cât timp versiunea tichetului nu se schimbă. Fragmentul e înregistrat o dată ca
+ * secvență de token-uri (TokenBuffer) și redat apoi în generatorul răspunsului, deci
+ * tichetele nemodificate nu mai sunt serializate câmp cu câmp. Indentarea și codificarea
+ * rămân ale generatorului real, așa că fragmentul e corect la orice adâncime și în orice format.
+ */
+public final class TicketFragments {
+    public enum View { LIST, ASSIGNED, SEARCH }
+
+    private final Map<View, TokenBuffer> fragments = new EnumMap<>(View.class);
+    private final Map<View, Long> versions = new EnumMap<>(View.class);
+
+    /**
+     * Scrie tichetul în proiecția dată, din cache dacă fragmentul e la versiunea curentă.
+     */
+    public static void write(final JsonGenerator g, final Ticket t, final View view)
+            throws IOException {
+        TicketFragments cache = t.getFragments();
+        TokenBuffer tokens = cache.fragments.get(view);
+        if (tokens == null || cache.versions.get(view) != t.getVersion()) {
+            tokens = record(t, view);
+            cache.fragments.put(view, tokens);
+            cache.versions.put(view, t.getVersion());
+        }
+        tokens.serialize(g);
+    }
+
+    private static TokenBuffer record(final Ticket t, final View view) throws IOException {
+        TokenBuffer tokens = new TokenBuffer(JsonContext.MAPPER, false);
+        switch (view) {
+            case LIST -> JsonWriters.writeListTicket(tokens, t, f -> true);
+            case ASSIGNED -> JsonWriters.writeAssignedTicket(tokens, t);
+            case SEARCH -> JsonWriters.writeSearchTicket(tokens, t, f -> true, null);
+            default -> {
+            }
+        }
+        return tokens;
+    }
+}
@@ -9,6 +9,7 @@ import services.RiskScoreVisitor;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class Utils {
@@ -95,12 +96,10 @@ public class Utils {
     }
 
     public static LocalDate whereClosed(Ticket t) {
-        LocalDate last = null;
-        for (HistoryEntry h : t.getHistory()) {
-            LocalDate d = LocalDate.parse(h.getTimestamp());
-            if (last == null || d.isAfter(last)) last = d;
+        if (t.getClosedEpochDay() != null) {
+            return LocalDate.ofEpochDay(t.getClosedEpochDay());
         }
-        return last;
+        return t.getHistoryLog() == null ? null : t.getHistoryLog().lastDay(t.getId());
     }
 
     private static double standardDeviation(int bug, int feature, int ui) {
@@ -156,26 +155,38 @@ public class Utils {
     }
 
     public static double avgRiskForType(List<Ticket> tickets, String type) {
-        List<Double> scores = new ArrayList<>();
+        List<Ticket> ofType = ofType(tickets, type);
+        if (ofType.isEmpty()) {
+            return 0.0;
+        }
+        return Arrays.stream(ParallelScan.mapToDouble(ofType, Utils::riskScoreNormalized))
+                .average().orElse(0.0);
+    }
+
+    // Tichetele de tipul dat, în ordinea din listă, pentru scanările paralele de mai jos
+    private static List<Ticket> ofType(final List<Ticket> tickets, final String type) {
+        List<Ticket> ofType = new ArrayList<>();
         for (Ticket t : tickets) {
             if (type.equals(t.getType())) {
-                scores.add(riskScoreNormalized(t));
+                ofType.add(t);
             }
         }
-        if (scores.isEmpty()) return 0.0;
-        return scores.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
+        return ofType;
     }
 
-    public static double calculateAverageImpact(List<Ticket> allTickets, String type) {
-        List<Double> scores = new ArrayList<>();
+    /**
+     * Scorul de impact al tichetului, calculat de un ImpactScoreVisitor.
+     */
+    public static double impactScore(final Ticket t) {
+        // Vizitator nou per tichet: scorurile se pot calcula în paralel
         ImpactScoreVisitor visitor = new ImpactScoreVisitor();
-        for (Ticket t : allTickets) {
-            if (t.getType().equals(type)) {
-                t.accept(visitor);
-                scores.add(visitor.getScore());
-            }
-        }
-        double avg = scores.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
+        t.accept(visitor);
+        return visitor.getScore();
+    }
+
+    public static double calculateAverageImpact(List<Ticket> allTickets, String type) {
+        double avg = Arrays.stream(ParallelScan.mapToDouble(ofType(allTickets, type),
+                Utils::impactScore)).average().orElse(0.0);
         return Math.round(avg * 100.0) / 100.0;
     }
     public static String computeStability(List<Ticket> open,
@@ -196,17 +207,18 @@ public class Utils {
         return "PARTIALLY STABLE";
     }
 
+    /**
+     * Scorul de eficiență al tichetului, calculat de un EfficiencyScoreVisitor.
+     */
+    public static double efficiencyScore(final Ticket t) {
+        EfficiencyScoreVisitor visitor = new EfficiencyScoreVisitor(daysToResolve(t));
+        t.accept(visitor);
+        return visitor.getScore();
+    }
+
     public static double avgEfficiencyForType(List<Ticket> tickets, String type) {
-        List<Double> vals = new ArrayList<>();
-        for (Ticket t : tickets) {
-            if (type.equals(t.getType())) {
-                int days = daysToResolve(t);
-                EfficiencyScoreVisitor visitor = new EfficiencyScoreVisitor(days);
-                t.accept(visitor);
-                vals.add(visitor.getScore());
-            }
-        }
-        return vals.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
+        return Arrays.stream(ParallelScan.mapToDouble(ofType(tickets, type),
+                Utils::efficiencyScore)).average().orElse(0.0);
     }
 
     public static int daysToResolve(Ticket t) {
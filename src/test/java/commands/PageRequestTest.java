@@ -0,0 +1,85 @@
+package commands;
+
+import models.BugTicket;
+import models.Ticket;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PageRequestTest {
+
+    private static Ticket ticket(int id, String createdAt) {
+        BugTicket t = new BugTicket();
+        t.setId(id);
+        t.setCreatedAt(createdAt);
+        return t;
+    }
+
+    // 0..5, două tichete pe zi
+    private static List<Ticket> tickets() {
+        return IntStream.range(0, 6).mapToObj(i -> ticket(i, "2025-01-0" + (1 + i / 2))).toList();
+    }
+
+    private static CommandInput input(Integer limit, String cursor) {
+        CommandInput in = new CommandInput();
+        in.setLimit(limit);
+        in.setCursor(cursor);
+        return in;
+    }
+
+    @Test
+    public void withoutLimitOrCursorEverythingIsReturned() {
+        PageRequest page = PageRequest.of(input(null, null));
+        assertThat(page.isPaged()).isFalse();
+        assertThat(page.page(tickets().stream(), false)).hasSize(6);
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.wants("title")).isTrue();
+    }
+
+    @Test
+    public void cursorWalksThroughAllPages() {
+        PageRequest first = PageRequest.of(input(4, null));
+        assertThat(first.page(tickets().stream(), false)).extracting(Ticket::getId).containsExactly(0, 1, 2, 3);
+        assertThat(first.getNextCursor()).isEqualTo(PageRequest.cursorOf(tickets().get(3)));
+
+        PageRequest second = PageRequest.of(input(4, first.getNextCursor()));
+        assertThat(second.page(tickets().stream(), false)).extracting(Ticket::getId).containsExactly(4, 5);
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void exactlyFullLastPageHasNoNextCursor() {
+        PageRequest page = PageRequest.of(input(6, null));
+        assertThat(page.page(tickets().stream(), false)).hasSize(6);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void cursorComparesOnlyIdsForIdOrderedStreams() {
+        PageRequest page = PageRequest.of(input(null, PageRequest.cursorOf(ticket(2, "2030-01-01"))));
+        assertThat(page.page(tickets().stream(), true)).extracting(Ticket::getId).containsExactly(3, 4, 5);
+    }
+
+    @Test
+    public void fieldsSelectTheProjection() {
+        CommandInput in = input(null, null);
+        in.setFields(List.of("id"));
+        PageRequest page = PageRequest.of(in);
+        assertThat(page.wants("id")).isTrue();
+        assertThat(page.wants("title")).isFalse();
+    }
+
+    @Test
+    public void rejectsInvalidLimitAndCursor() {
+        assertThatThrownBy(() -> PageRequest.of(input(0, null)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid limit.");
+        assertThatThrownBy(() -> PageRequest.of(input(2, "not base64!")))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid cursor.");
+        assertThatThrownBy(() -> PageRequest.of(input(2, "bm9zZXBhcmF0b3I")))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid cursor.");
+    }
+}
@@ -0,0 +1,97 @@
+package commands;
+
+import models.BugTicket;
+import models.Priority;
+import models.Status;
+import models.Ticket;
+import org.junit.jupiter.api.Test;
+import services.TicketAttributeIndex;
+import utils.CompressedBitmap;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SearchPlanTest {
+
+    private static SearchFilters filters(String priority, String type, String after, String before, List<String> keywords) {
+        return new SearchFilters("TICKET", priority, type, after, before, keywords, null, null, null, null, null);
+    }
+
+    private static Ticket ticket(int id, Priority priority, String createdAt) {
+        BugTicket t = new BugTicket();
+        t.setId(id);
+        t.setType("BUG");
+        t.setBusinessPriority(priority);
+        t.setStatus(Status.OPEN);
+        t.setCreatedAt(createdAt);
+        return t;
+    }
+
+    @Test
+    public void compilesFiltersIntoTypedValues() {
+        SearchPlan plan = SearchPlan.compile(filters("HIGH", "BUG", "2025-01-01", null, List.of("x")));
+        assertThat(plan.getBusinessPriority()).isEqualTo(Priority.HIGH);
+        assertThat(plan.getCreatedAfter()).hasToString("2025-01-01");
+        assertThat(plan.getKeywordMatcher()).isNotNull();
+        assertThat(plan.isTicketImpossible()).isFalse();
+    }
+
+    @Test
+    public void invalidEnumOrDateMatchesNothing() {
+        assertThat(SearchPlan.compile(filters("URGENT", null, null, null, null)).isTicketImpossible()).isTrue();
+        assertThat(SearchPlan.compile(filters(null, null, "yesterday", null, null)).isTicketImpossible()).isTrue();
+
+        SearchPlan plan = SearchPlan.compile(filters(null, null, null, "2025-13-01", null));
+        TicketAttributeIndex index = new TicketAttributeIndex();
+        index.add(ticket(0, Priority.LOW, "2025-01-01"));
+        assertThat(plan.narrow(index, index.all()).isEmpty()).isTrue();
+        assertThat(plan.ticketPredicate(null, null, null).test(ticket(0, Priority.LOW, "2025-01-01"))).isFalse();
+    }
+
+    @Test
+    public void narrowIntersectsTheAttributeBitmaps() {
+        TicketAttributeIndex index = new TicketAttributeIndex();
+        index.add(ticket(0, Priority.LOW, "2025-01-01"));
+        index.add(ticket(1, Priority.HIGH, "2025-01-02"));
+        index.add(ticket(2, Priority.HIGH, "2025-01-03"));
+
+        CompressedBitmap scope = new CompressedBitmap();
+        scope.add(0);
+        scope.add(2);
+        SearchPlan plan = SearchPlan.compile(filters("HIGH", "BUG", null, null, null));
+        assertThat(plan.narrow(index, scope).toArray()).containsExactly(2);
+    }
+
+    @Test
+    public void predicateAppliesDateBoundsExclusively() {
+        Predicate<Ticket> p = SearchPlan.compile(filters(null, null, "2025-01-01", "2025-01-03", null))
+                .ticketPredicate(null, null, null);
+        assertThat(p.test(ticket(0, Priority.LOW, "2025-01-01"))).isFalse();
+        assertThat(p.test(ticket(1, Priority.LOW, "2025-01-02"))).isTrue();
+        assertThat(p.test(ticket(2, Priority.LOW, "2025-01-03"))).isFalse();
+    }
+
+    @Test
+    public void predicateKeepsOnlyKeywordMatches() {
+        Predicate<Ticket> p = SearchPlan.compile(filters(null, null, "2024-12-31", null, List.of("x")))
+                .ticketPredicate(null, null, t -> t.getId() == 1);
+        assertThat(p.test(ticket(0, Priority.LOW, "2025-01-02"))).isFalse();
+        assertThat(p.test(ticket(1, Priority.LOW, "2025-01-02"))).isTrue();
+    }
+
+    @Test
+    public void withoutFiltersEverythingMatches() {
+        SearchPlan plan = SearchPlan.compile(null);
+        assertThat(plan.getSearchType()).isEqualTo("TICKET");
+        assertThat(plan.ticketPredicate(null, null, null).test(ticket(0, Priority.LOW, "2025-01-01"))).isTrue();
+        assertThat(plan.scoreUpperBound()).isNull();
+    }
+
+    @Test
+    public void scoreAboveTakesPrecedenceOverBelow() {
+        SearchFilters f = new SearchFilters("DEVELOPER", null, null, null, null, null, null, null, null, 40.0, 80.0);
+        assertThat(SearchPlan.compile(f).scoreUpperBound()).isEqualTo(40.0);
+    }
+}
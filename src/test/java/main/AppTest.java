@@ -0,0 +1,88 @@
+package main;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import services.ParallelCommandReader;
+import utils.JsonContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AppTest {
+
+    // ~300 de octeți per comandă: 60 000 de comenzi trec de pragul de 16 MB al citirii paralele
+    private static final int COMMANDS = 60_000;
+    private static final String PADDING = "x".repeat(250);
+
+    // Fiecare comandă vine de la un utilizator inexistent și produce exact un răspuns de eroare
+    private static String command(int i) {
+        return "{\"command\":\"viewTickets\",\"username\":\"ghost" + i
+                + "\",\"timestamp\":\"2025-10-01\",\"padding\":\"" + PADDING + "\"}";
+    }
+
+    private static Path write(Path dir, String name, List<String> elements) throws IOException {
+        Path file = dir.resolve(name);
+        Files.writeString(file, "[\n  " + String.join(",\n  ", elements) + "\n]\n");
+        return file;
+    }
+
+    private static List<String> commands(int count) {
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < count; i++) elements.add(command(i));
+        return elements;
+    }
+
+    private static JsonNode run(Path input, Path output) throws IOException {
+        App.run(input.toString(), output.toString());
+        return JsonContext.MAPPER.readTree(output.toFile());
+    }
+
+    private static void assertGhostErrorsInOrder(JsonNode out, int count) {
+        assertThat(out).hasSize(count);
+        for (int i = 0; i < count; i++) {
+            assertThat(out.get(i).get("username").asText()).isEqualTo("ghost" + i);
+            assertThat(out.get(i).get("error").asText()).isEqualTo("The user ghost" + i + " does not exist.");
+        }
+    }
+
+    @Test
+    public void largeInputIsExecutedInFileOrder(@TempDir Path dir) throws IOException {
+        Path input = write(dir, "big.json", commands(COMMANDS));
+        assertThat(Files.size(input)).isGreaterThan(ParallelCommandReader.THRESHOLD);
+
+        assertGhostErrorsInOrder(run(input, dir.resolve("big_out.json")), COMMANDS);
+    }
+
+    @Test
+    public void largeAndSmallInputsProduceTheSameResponses(@TempDir Path dir) throws IOException {
+        List<String> elements = commands(COMMANDS);
+        Path big = write(dir, "big.json", elements);
+        Path small = write(dir, "small.json", elements.subList(0, 1_000));
+        assertThat(Files.size(small)).isLessThan(ParallelCommandReader.THRESHOLD);
+
+        JsonNode bigOut = run(big, dir.resolve("big_out.json"));
+        JsonNode smallOut = run(small, dir.resolve("small_out.json"));
+        for (int i = 0; i < smallOut.size(); i++) assertThat(bigOut.get(i)).isEqualTo(smallOut.get(i));
+        assertThat(smallOut).hasSize(1_000);
+    }
+
+    @Test
+    public void parseErrorKeepsTheResponsesOfEarlierCommands(@TempDir Path dir) throws IOException {
+        List<String> elements = commands(COMMANDS);
+        elements.set(COMMANDS - 10, "{\"command\":\"viewTickets\",\"username\":");
+        Path input = write(dir, "broken.json", elements);
+        assertThat(Files.size(input)).isGreaterThan(ParallelCommandReader.THRESHOLD);
+
+        // Eroarea de parsare e raportată, nu aruncată; comenzile dinaintea ei rămân executate,
+        // iar output-ul e un array JSON valid, în ordinea din fișier
+        JsonNode out = run(input, dir.resolve("broken_out.json"));
+        assertThat(out.size()).isPositive().isLessThan(COMMANDS - 10);
+        assertGhostErrorsInOrder(out, out.size());
+    }
+}
@@ -0,0 +1,77 @@
+package models;
+
+import org.junit.jupiter.api.Test;
+import utils.SymbolTable;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HistoryLogTest {
+
+    private static Ticket ticket(int id) {
+        BugTicket t = new BugTicket();
+        t.setId(id);
+        return t;
+    }
+
+    @Test
+    public void entriesAreKeptPerTicketInRecordingOrder() {
+        HistoryLog log = new HistoryLog(new SymbolTable());
+        Ticket a = ticket(0);
+        Ticket b = ticket(3);
+        log.record(a, "2025-01-01", HistoryAction.ASSIGNED, "dev");
+        log.record(b, "2025-01-02", HistoryAction.ASSIGNED, "other");
+        log.statusChanged(a, "2025-01-03", "dev", Status.OPEN, Status.IN_PROGRESS);
+
+        List<HistoryEntry> history = log.entriesOf(0);
+        assertThat(history).extracting(HistoryEntry::getAction).containsExactly("ASSIGNED", "STATUS_CHANGED");
+        assertThat(history.get(0).getBy()).isEqualTo("dev");
+        assertThat(history.get(1).getFrom()).isEqualTo("OPEN");
+        assertThat(history.get(1).getTo()).isEqualTo("IN_PROGRESS");
+        assertThat(log.entriesOf(3)).hasSize(1);
+        assertThat(log.entriesOf(1)).isEmpty();
+        assertThat(log.entriesOf(99)).isEmpty();
+    }
+
+    @Test
+    public void descriptionsAreBuiltFromTheStoredCodes() {
+        HistoryLog log = new HistoryLog(new SymbolTable());
+        Ticket t = ticket(1);
+        log.addedToMilestone(t, "2025-01-01", "manager", "M1");
+        log.priorityEscalation(t, "2025-01-04", "M1", Priority.HIGH);
+        log.autoUnassign(t, "2025-01-05", Priority.CRITICAL);
+        log.record(t, "2025-01-06", HistoryAction.DE_ASSIGNED, "dev");
+
+        List<HistoryEntry> history = log.entriesOf(1);
+        assertThat(history.get(0).getMilestone()).isEqualTo("M1");
+        assertThat(history.get(1).getBy()).isEqualTo("SYSTEM");
+        assertThat(history.get(1).getDescription()).isEqualTo("Priority increased due to time in milestone 'M1' to HIGH");
+        assertThat(history.get(2).getDescription()).isEqualTo("Ticket unassigned: priority CRITICAL exceeds dev seniority");
+        assertThat(history.get(3).getAction()).isEqualTo("DE-ASSIGNED");
+    }
+
+    @Test
+    public void growsPastTheInitialCapacity() {
+        HistoryLog log = new HistoryLog(new SymbolTable());
+        for (int i = 0; i < 500; i++) log.record(ticket(i % 7), "2025-01-01", HistoryAction.ASSIGNED, "u" + i);
+        assertThat(log.entriesOf(6)).hasSize(71);
+        assertThat(log.entriesOf(6).get(70).getBy()).isEqualTo("u496");
+    }
+
+    @Test
+    public void lastDayIsTheLatestTimestampAndClearForgetsEverything() {
+        HistoryLog log = new HistoryLog(new SymbolTable());
+        Ticket t = ticket(2);
+        log.record(t, "2025-02-10", HistoryAction.ASSIGNED, "dev");
+        log.record(t, "2025-02-01", HistoryAction.DE_ASSIGNED, "dev");
+        log.record(t, null, HistoryAction.MILESTONE_UNBLOCKED, "SYSTEM");
+        assertThat(log.lastDay(2)).isEqualTo(LocalDate.parse("2025-02-10"));
+        assertThat(log.entriesOf(2).get(2).getTimestamp()).isNull();
+
+        log.clear();
+        assertThat(log.entriesOf(2)).isEmpty();
+        assertThat(log.lastDay(2)).isNull();
+    }
+}
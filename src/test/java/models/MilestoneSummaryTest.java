@@ -0,0 +1,70 @@
+package models;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MilestoneSummaryTest {
+    private static final long DAY = LocalDate.parse("2025-03-05").toEpochDay();
+
+    @Test
+    public void closingAndReopeningKeepsInputOrder() {
+        MilestoneSummary summary = new MilestoneSummary(List.of(7, 3, 5));
+        summary.onClosed(5, DAY);
+        summary.onClosed(7, DAY + 1);
+
+        assertThat(summary.getOpenTickets()).containsExactly(3);
+        assertThat(summary.getClosedTickets()).containsExactly(7, 5);
+        assertThat(summary.getLastClosedDay()).isEqualTo(DAY + 1);
+
+        summary.onReopened(7, DAY + 1);
+        assertThat(summary.getOpenTickets()).containsExactly(7, 3);
+        assertThat(summary.getLastClosedDay()).isEqualTo(DAY);
+    }
+
+    @Test
+    public void completeOnlyWhenEveryTicketIsClosed() {
+        MilestoneSummary summary = new MilestoneSummary(List.of(1, 2));
+        summary.onClosed(1, DAY);
+        assertThat(summary.isComplete()).isFalse();
+        summary.onClosed(2, DAY);
+        assertThat(summary.isComplete()).isTrue();
+        assertThat(summary.getClosedCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void ticketsOutsideTheMilestoneAreIgnored() {
+        MilestoneSummary summary = new MilestoneSummary(List.of(1));
+        summary.onClosed(9, DAY);
+        summary.onAssigned(9, "dev");
+        assertThat(summary.getOpenTickets()).containsExactly(1);
+        assertThat(summary.getTicketsAssignedTo("dev")).isEmpty();
+    }
+
+    @Test
+    public void assignmentsArePerDeveloper() {
+        MilestoneSummary summary = new MilestoneSummary(List.of(4, 2, 8));
+        summary.onAssigned(8, "ana");
+        summary.onAssigned(4, "ana");
+        summary.onAssigned(2, "bob");
+        assertThat(summary.getTicketsAssignedTo("ana")).containsExactly(4, 8);
+
+        summary.onUnassigned(4, "ana");
+        assertThat(summary.getTicketsAssignedTo("ana")).containsExactly(8);
+        assertThat(summary.getTicketsAssignedTo("bob")).containsExactly(2);
+    }
+
+    @Test
+    public void blockedWhileADependencyIsIncomplete() {
+        MilestoneSummary summary = new MilestoneSummary(List.of());
+        summary.dependencyReopened();
+        summary.dependencyReopened();
+        summary.dependencyCompleted();
+        assertThat(summary.isBlocked()).isTrue();
+        summary.dependencyCompleted();
+        assertThat(summary.isBlocked()).isFalse();
+    }
+}
@@ -0,0 +1,139 @@
+package models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class NotificationInboxTest {
+
+    private static List<String> drain(NotificationInbox inbox) {
+        List<String> out = new ArrayList<>();
+        inbox.drain(out::add);
+        return out;
+    }
+
+    @Test
+    public void startsSmallAndGrowsUpToTheCapacity() {
+        NotificationInbox inbox = new NotificationInbox(1024, NotificationInbox.Overflow.DROP_OLDEST);
+        assertThat(inbox.allocatedSlots()).isEqualTo(16);
+
+        for (int i = 0; i < 100; i++) inbox.offer("m" + i);
+        assertThat(inbox.allocatedSlots()).isEqualTo(128);
+        List<String> out = drain(inbox);
+        assertThat(out).hasSize(100);
+        assertThat(out.get(0)).isEqualTo("m0");
+        assertThat(out.get(99)).isEqualTo("m99");
+
+        for (int i = 0; i < 5000; i++) inbox.offer("x" + i);
+        assertThat(inbox.allocatedSlots()).isEqualTo(1024);
+    }
+
+    @Test
+    public void dropOldestKeepsTheNewestMessages() {
+        NotificationInbox inbox = new NotificationInbox(4, NotificationInbox.Overflow.DROP_OLDEST);
+        for (int i = 0; i < 10; i++) inbox.offer("m" + i);
+        assertThat(drain(inbox)).containsExactly("m6", "m7", "m8", "m9");
+        assertThat(drain(inbox)).isEmpty();
+    }
+
+    @Test
+    public void coalesceCountsTheMessagesThatDidNotFit() {
+        NotificationInbox inbox = new NotificationInbox(4, NotificationInbox.Overflow.COALESCE);
+        for (int i = 0; i < 10; i++) inbox.offer("m" + i);
+        assertThat(drain(inbox)).containsExactly("m0", "m1", "m2", "m3", "6 more notifications");
+        assertThat(drain(inbox)).isEmpty();
+    }
+
+    @Test
+    public void clearForgetsMessagesAndTheDroppedCount() {
+        NotificationInbox inbox = new NotificationInbox(2, NotificationInbox.Overflow.COALESCE);
+        for (int i = 0; i < 5; i++) inbox.offer("m" + i);
+        inbox.clear();
+        inbox.offer("after");
+        assertThat(drain(inbox)).containsExactly("after");
+    }
+
+    @Test
+    public void capacityIsRoundedUpToAPowerOfTwo() {
+        NotificationInbox one = new NotificationInbox(1, NotificationInbox.Overflow.DROP_OLDEST);
+        for (int i = 0; i < 5; i++) one.offer("m" + i);
+        assertThat(drain(one)).containsExactly("m3", "m4");
+
+        NotificationInbox five = new NotificationInbox(5, NotificationInbox.Overflow.COALESCE);
+        for (int i = 0; i < 10; i++) five.offer("m" + i);
+        assertThat(drain(five)).hasSize(8 + 1).endsWith("2 more notifications");
+    }
+
+    @Test
+    public void nonPositiveCapacityIsRejected() {
+        assertThatThrownBy(() -> new NotificationInbox(0, NotificationInbox.Overflow.DROP_OLDEST))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new NotificationInbox(-4, NotificationInbox.Overflow.COALESCE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void defaultInboxKeepsEveryMessageLikeTheOldList() {
+        NotificationInbox inbox = new NotificationInbox();
+        for (int i = 0; i < 5000; i++) inbox.offer("m" + i);
+        List<String> out = drain(inbox);
+        assertThat(out).hasSize(5000);
+        assertThat(out.get(0)).isEqualTo("m0");
+    }
+
+    @Test
+    public void invalidCapacityPropertyMeansUnbounded() {
+        assertThat(NotificationInbox.parseCapacity(null)).isEqualTo(NotificationInbox.MAX_CAPACITY);
+        assertThat(NotificationInbox.parseCapacity(" 64 ")).isEqualTo(64);
+        assertThat(NotificationInbox.parseCapacity("0")).isEqualTo(NotificationInbox.MAX_CAPACITY);
+        assertThat(NotificationInbox.parseCapacity("lots")).isEqualTo(NotificationInbox.MAX_CAPACITY);
+    }
+
+    @Test
+    public void invalidOverflowPropertyFallsBackToTheDefault() {
+        assertThat(NotificationInbox.parseOverflow(null)).isEqualTo(NotificationInbox.Overflow.DROP_OLDEST);
+        assertThat(NotificationInbox.parseOverflow("coalesce")).isEqualTo(NotificationInbox.Overflow.COALESCE);
+        assertThat(NotificationInbox.parseOverflow("bogus")).isEqualTo(NotificationInbox.Overflow.DROP_OLDEST);
+    }
+
+    @Test
+    public void concurrentProducersLoseNothingWhileTheRingGrows() throws Exception {
+        NotificationInbox inbox = new NotificationInbox(1 << 16, NotificationInbox.Overflow.DROP_OLDEST);
+        int producers = 4;
+        int perProducer = 10_000;
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            int id = p;
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) inbox.offer(id + ":" + i);
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        List<String> out = drain(inbox);
+        assertThat(out).hasSize(producers * perProducer);
+        // Mesajele fiecărui producător apar în ordinea în care au fost trimise
+        Map<String, Integer> lastSeen = new HashMap<>();
+        for (String m : out) {
+            String[] parts = m.split(":");
+            int i = Integer.parseInt(parts[1]);
+            assertThat(i).isGreaterThan(lastSeen.getOrDefault(parts[0], -1));
+            lastSeen.put(parts[0], i);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package models;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UndoJournalTest {
+
+    @Test
+    public void popCommentSkipsCommentsRemovedElsewhere() {
+        Ticket t = new BugTicket();
+        UndoJournal journal = t.getUndoJournal();
+        int first = t.addComment(new Comment());
+        int second = t.addComment(new Comment());
+        journal.pushComment("dev", first);
+        journal.pushComment("dev", second);
+
+        t.removeComment(second);
+        assertThat(journal.popComment("dev", t)).isEqualTo(first);
+        assertThat(journal.popComment("dev", t)).isEqualTo(-1);
+        assertThat(journal.popComment("other", t)).isEqualTo(-1);
+    }
+
+    @Test
+    public void commentSlotsStayStableAfterRemoval() {
+        Ticket t = new BugTicket();
+        Comment a = new Comment();
+        Comment b = new Comment();
+        int slotA = t.addComment(a);
+        int slotB = t.addComment(b);
+        t.removeComment(slotA);
+
+        assertThat(t.isCommentLive(slotA)).isFalse();
+        assertThat(t.isCommentLive(slotB)).isTrue();
+        assertThat(t.getComments()).containsExactly(b);
+        assertThat(t.getComments().get(0)).isSameAs(b);
+    }
+
+    @Test
+    public void liveCommentsKeepOrderAcrossRemovalsOfEqualComments() {
+        Ticket t = new BugTicket();
+        Comment a = new Comment();
+        Comment b = new Comment();
+        Comment c = new Comment();
+        t.addComment(a);
+        int slotB = t.addComment(b);
+        t.addComment(c);
+        t.removeComment(slotB);
+        t.removeComment(slotB);
+        Comment d = new Comment();
+        t.addComment(d);
+
+        assertThat(t.getComments()).hasSize(3);
+        assertThat(t.getComments().get(0)).isSameAs(a);
+        assertThat(t.getComments().get(1)).isSameAs(c);
+        assertThat(t.getComments().get(2)).isSameAs(d);
+    }
+
+    @Test
+    public void popStatusReturnsTheUndoThatStillApplies() {
+        UndoJournal journal = new UndoJournal();
+        journal.pushStatus("dev", new UndoJournal.StatusUndo(Status.IN_PROGRESS, Status.OPEN, false));
+        journal.pushStatus("dev", new UndoJournal.StatusUndo(Status.RESOLVED, Status.IN_PROGRESS, true));
+
+        // Tichetul a ajuns în CLOSED pe altă cale: înregistrarea pentru RESOLVED e aruncată
+        UndoJournal.StatusUndo undo = journal.popStatus("dev", Status.IN_PROGRESS);
+        assertThat(undo.getRestore()).isEqualTo(Status.OPEN);
+        assertThat(undo.isClearSolvedAt()).isFalse();
+        assertThat(journal.popStatus("dev", Status.IN_PROGRESS)).isNull();
+    }
+
+    @Test
+    public void popAssignmentReturnsThePriorStateOnce() {
+        UndoJournal journal = new UndoJournal();
+        journal.pushAssignment("dev", new UndoJournal.AssignmentUndo(null, "2025-01-01", Status.OPEN));
+
+        UndoJournal.AssignmentUndo undo = journal.popAssignment("dev");
+        assertThat(undo.getAssignee()).isNull();
+        assertThat(undo.getAssignedAt()).isEqualTo("2025-01-01");
+        assertThat(undo.getStatus()).isEqualTo(Status.OPEN);
+        assertThat(journal.popAssignment("dev")).isNull();
+        assertThat(journal.popAssignment("other")).isNull();
+    }
+
+    @Test
+    public void onlyTheLatestAssignmentCanBeUndone() {
+        UndoJournal journal = new UndoJournal();
+        journal.pushAssignment("dev", new UndoJournal.AssignmentUndo(null, null, Status.OPEN));
+        journal.pushAssignment("dev", new UndoJournal.AssignmentUndo(null, "2025-02-02", Status.OPEN));
+
+        assertThat(journal.popAssignment("dev").getAssignedAt()).isEqualTo("2025-02-02");
+        assertThat(journal.popAssignment("dev")).isNull();
+    }
+}
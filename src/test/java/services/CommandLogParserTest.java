@@ -0,0 +1,117 @@
+package services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import commands.CommandInput;
+import commands.TicketParams;
+import models.Severity;
+import org.junit.jupiter.api.Test;
+import utils.JsonContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CommandLogParserTest {
+
+    private static InputStream json(String s) {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void matchesTheDatabindReaderOnEveryInputFile() throws IOException {
+        File[] inputs = new File("input").listFiles((dir, name) -> name.startsWith("in_") && name.endsWith(".json"));
+        assertThat(inputs).isNotEmpty();
+        for (File input : inputs) {
+            List<CommandInput> expected = JsonContext.COMMANDS_READER.readValue(input);
+            JsonNode expectedTree = JsonContext.MAPPER.valueToTree(expected);
+            JsonNode actualTree = JsonContext.MAPPER.valueToTree(CommandLogParser.readAll(input));
+            assertThat(actualTree).as(input.getName()).isEqualTo(expectedTree);
+        }
+    }
+
+    @Test
+    public void nextReusesOneSlotAndResetsItsFields() throws IOException {
+        try (CommandLogParser parser = new CommandLogParser(json(
+                "[{\"command\":\"assignTicket\",\"ticketID\":3},{\"command\":\"viewTickets\"}]"))) {
+            CommandInput first = parser.next();
+            assertThat(first.getTicketID()).isEqualTo(3);
+            CommandInput second = parser.next();
+            assertThat(second).isSameAs(first);
+            assertThat(second.getCommand()).isEqualTo("viewTickets");
+            assertThat(second.getTicketID()).isNull();
+            assertThat(parser.next()).isNull();
+        }
+    }
+
+    @Test
+    public void unknownFieldsAreSkippedAndInvalidEnumsBecomeNull() throws IOException {
+        List<CommandInput> commands = CommandLogParser.readAll(json("[{\"command\":\"reportTicket\",\"extra\":{\"a\":[1,{}]},"
+                + "\"params\":{\"type\":\"BUG\",\"severity\":\"SEVERE\",\"expertiseArea\":\"MOBILE\",\"nested\":[[]]}}]"));
+        TicketParams.Bug bug = (TicketParams.Bug) commands.get(0).getParams();
+        assertThat(bug.severity()).isEqualTo(Severity.SEVERE);
+        assertThat(bug.expertiseArea()).isNull();
+    }
+
+    @Test
+    public void paramsTypeMayComeAfterTheOtherFields() throws IOException {
+        List<CommandInput> commands = CommandLogParser.readAll(json(
+                "[{\"params\":{\"title\":\"t\",\"usabilityScore\":3,\"type\":\"UI_FEEDBACK\"}}]"));
+        TicketParams.UiFeedback ui = (TicketParams.UiFeedback) commands.get(0).getParams();
+        assertThat(ui.title()).isEqualTo("t");
+        assertThat(ui.usabilityScore()).isEqualTo(3);
+    }
+
+    @Test
+    public void listsAndFiltersAreDecoded() throws IOException {
+        List<CommandInput> commands = CommandLogParser.readAll(json("[{\"tickets\":[1,null,2],\"assignedDevs\":[\"a\"],"
+                + "\"filters\":{\"searchType\":\"DEVELOPER\",\"keywords\":[\"x\"],\"performanceScoreAbove\":4.5},\"limit\":2}]"));
+        CommandInput c = commands.get(0);
+        List<Integer> expectedTickets = new ArrayList<>();
+        expectedTickets.add(1);
+        expectedTickets.add(null);
+        expectedTickets.add(2);
+        assertThat(c.getTickets()).isEqualTo(expectedTickets);
+        assertThat(c.getAssignedDevs()).containsExactly("a");
+        assertThat(c.getFilters().keywords()).containsExactly("x");
+        assertThat(c.getFilters().performanceScoreAbove()).isEqualTo(4.5);
+        assertThat(c.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    public void nonObjectElementFailsBothReadingModes() throws IOException {
+        String input = "[{\"command\":\"a\"},42,{\"command\":\"b\"}]";
+        try (CommandLogParser parser = new CommandLogParser(json(input))) {
+            assertThat(parser.next().getCommand()).isEqualTo("a");
+            assertThatThrownBy(parser::next).isInstanceOf(IOException.class).hasMessageContaining("VALUE_NUMBER_INT");
+        }
+
+        List<CommandInput> prefix = new ArrayList<>();
+        assertThatThrownBy(() -> CommandLogParser.readAll(json(input), prefix)).isInstanceOf(IOException.class);
+        assertThat(prefix).extracting(CommandInput::getCommand).containsExactly("a");
+    }
+
+    @Test
+    public void unterminatedArrayIsAnError() {
+        assertThatThrownBy(() -> CommandLogParser.readAll(json("[{\"command\":\"a\"}"))).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void nextKeepsReturningNullAfterTheEnd() throws IOException {
+        try (CommandLogParser parser = new CommandLogParser(json("[]"))) {
+            assertThat(parser.next()).isNull();
+            assertThat(parser.next()).isNull();
+        }
+    }
+
+    @Test
+    public void rootMustBeAnArray() {
+        assertThatThrownBy(() -> CommandLogParser.readAll(json("{\"command\":\"x\"}"))).isInstanceOf(IOException.class);
+    }
+}
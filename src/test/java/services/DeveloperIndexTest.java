@@ -0,0 +1,95 @@
+package services;
+
+import models.Developer;
+import models.ExpertiseArea;
+import models.Seniority;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeveloperIndexTest {
+
+    private static Developer dev(String name, ExpertiseArea area, Seniority seniority, double score) {
+        Developer d = new Developer();
+        d.setUsername(name);
+        d.setExpertiseArea(area);
+        d.setSeniority(seniority);
+        d.setPerformanceScore(score);
+        return d;
+    }
+
+    private static DeveloperIndex index() {
+        DeveloperIndex index = new DeveloperIndex();
+        index.add(dev("carol", ExpertiseArea.BACKEND, Seniority.SENIOR, 70));
+        index.add(dev("alice", ExpertiseArea.BACKEND, Seniority.JUNIOR, 40));
+        index.add(dev("bob", ExpertiseArea.FRONTEND, Seniority.SENIOR, 40));
+        index.add(dev("nobody", null, Seniority.SENIOR, 10));
+        return index;
+    }
+
+    @Test
+    public void queryFiltersByGroupAndReturnsUsernameOrder() {
+        DeveloperIndex index = index();
+        assertThat(index.query(null, null, null)).extracting(Developer::getUsername).containsExactly("alice", "bob", "carol", "nobody");
+        assertThat(index.query(ExpertiseArea.BACKEND, null, null)).extracting(Developer::getUsername).containsExactly("alice", "carol");
+        assertThat(index.query(null, Seniority.SENIOR, null)).extracting(Developer::getUsername).containsExactly("bob", "carol", "nobody");
+    }
+
+    @Test
+    public void developersWithoutAreaOrSeniorityStayInTheNullGroup() {
+        DeveloperIndex index = index();
+        Developer nobody = index.query(null, null, 10.0).get(0);
+        assertThat(nobody.getUsername()).isEqualTo("nobody");
+        assertThat(index.query(ExpertiseArea.BACKEND, Seniority.SENIOR, null)).extracting(Developer::getUsername).containsExactly("carol");
+
+        nobody.setPerformanceScore(80);
+        index.scoreChanged(nobody, 10);
+        assertThat(index.query(null, null, 10.0)).isEmpty();
+        assertThat(index.query(null, Seniority.SENIOR, 80.0)).extracting(Developer::getUsername).containsExactly("bob", "carol", "nobody");
+    }
+
+    @Test
+    public void mergeKeepsUsernameOrderAcrossScoresAndGroups() {
+        DeveloperIndex index = new DeveloperIndex();
+        String[] names = {"m", "c", "x", "a", "q", "f", "b", "z"};
+        for (int i = 0; i < names.length; i++) {
+            index.add(dev(names[i], ExpertiseArea.values()[i % 3], Seniority.values()[i % 2], i * 10));
+        }
+        assertThat(index.query(null, null, null)).extracting(Developer::getUsername)
+                .containsExactly("a", "b", "c", "f", "m", "q", "x", "z");
+        assertThat(index.query(null, null, 35.0)).extracting(Developer::getUsername).containsExactly("a", "c", "m", "x");
+    }
+
+    @Test
+    public void scoreBoundIsInclusive() {
+        DeveloperIndex index = index();
+        assertThat(index.query(null, null, 40.0)).extracting(Developer::getUsername).containsExactly("alice", "bob", "nobody");
+        assertThat(index.query(null, null, 39.9)).extracting(Developer::getUsername).containsExactly("nobody");
+        assertThat(index.query(null, null, 9.9)).isEmpty();
+        assertThat(index.query(null, null, Double.NaN)).isEmpty();
+    }
+
+    @Test
+    public void scoreChangeMovesTheDeveloper() {
+        DeveloperIndex index = new DeveloperIndex();
+        Developer carol = dev("carol", ExpertiseArea.DB, Seniority.MID, 90);
+        index.add(carol);
+
+        carol.setPerformanceScore(-0.0);
+        index.scoreChanged(carol, 90);
+        assertThat(index.query(null, null, 0.0)).containsExactly(carol);
+        assertThat(index.query(null, null, 50.0)).containsExactly(carol);
+
+        carol.setPerformanceScore(60);
+        index.scoreChanged(carol, -0.0);
+        assertThat(index.query(null, null, 50.0)).isEmpty();
+    }
+
+    @Test
+    public void scoreChangeOfANonMemberIsIgnored() {
+        DeveloperIndex index = index();
+        Developer stranger = dev("stranger", ExpertiseArea.BACKEND, Seniority.JUNIOR, 5);
+        index.scoreChanged(stranger, 40);
+        assertThat(index.query(null, null, 9.0)).isEmpty();
+    }
+}
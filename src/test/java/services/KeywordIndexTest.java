@@ -0,0 +1,74 @@
+package services;
+
+import models.BugTicket;
+import models.Ticket;
+import org.junit.jupiter.api.Test;
+import utils.KeywordMatcher;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KeywordIndexTest {
+
+    private static Ticket ticket(int id, String title, String description) {
+        BugTicket t = new BugTicket();
+        t.setId(id);
+        t.setTitle(title);
+        t.setDescription(description);
+        return t;
+    }
+
+    private static KeywordIndex index() {
+        KeywordIndex index = new KeywordIndex();
+        index.add(ticket(0, "Crashes on login", "App closes"));
+        index.add(ticket(1, "Dark mode", null));
+        index.add(ticket(2, "Slow search", "Search takes seconds"));
+        return index;
+    }
+
+    @Test
+    public void emptyKeywordMatchesEveryTicket() {
+        KeywordIndex index = index();
+        assertThat(index.candidates("").cardinality()).isEqualTo(3);
+
+        Map<Integer, List<String>> matches = index.match(new KeywordMatcher(List.of("")));
+        assertThat(matches).containsOnlyKeys(0, 1, 2);
+        assertThat(matches.get(1)).containsExactly("");
+    }
+
+    @Test
+    public void matchesAreSubstringsCaseInsensitive() {
+        Map<Integer, List<String>> matches = index().match(new KeywordMatcher(List.of("SEARCH", "cras", "zzz")));
+        assertThat(matches).containsOnlyKeys(0, 2);
+        assertThat(matches.get(0)).containsExactly("cras");
+        assertThat(matches.get(2)).containsExactly("SEARCH");
+    }
+
+    @Test
+    public void singleTicketMatchAgreesWithTheBulkMatch() {
+        KeywordIndex index = index();
+        KeywordMatcher matcher = new KeywordMatcher(List.of("SEARCH", "cras", "zzz"));
+        Map<Integer, List<String>> bulk = index.match(matcher);
+        for (int id = 0; id < 3; id++) {
+            assertThat(index.match(matcher, id)).isEqualTo(bulk.getOrDefault(id, List.of()));
+        }
+        assertThat(index.match(matcher, 42)).isEmpty();
+    }
+
+    @Test
+    public void shortKeywordsFallBackToAScan() {
+        KeywordIndex index = index();
+        assertThat(index.candidates("k").stream().boxed()).containsExactly(0, 1, 2);
+        assertThat(index.match(new KeywordMatcher(List.of("k", "qq")))).containsOnlyKeys(1, 2);
+    }
+
+    @Test
+    public void candidatesAreASupersetOfExactMatches() {
+        KeywordIndex index = index();
+        // "ses" apare doar ca parte din "closes", dar n-gramele lui "sesx" nu există
+        assertThat(index.candidates("ses").stream().boxed()).containsExactly(0);
+        assertThat(index.candidates("sesx").isEmpty()).isTrue();
+    }
+}
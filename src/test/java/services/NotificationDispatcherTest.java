@@ -0,0 +1,256 @@
+package services;
+
+import models.NotificationEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class NotificationDispatcherTest {
+
+    private static NotificationEvent event(String message) {
+        return new NotificationEvent("broadcast", "2025-01-01", List.of(), List.of(), message);
+    }
+
+    // Sink care acceptă doar primele `acceptOnce` evenimente la primul apel, apoi eșuează o dată
+    private static final class FlakySink implements NotificationSink {
+        final List<String> received = Collections.synchronizedList(new ArrayList<>());
+        int acceptOnce;
+        boolean partial;
+        volatile boolean closed;
+
+        FlakySink(int acceptOnce, boolean partial) {
+            this.acceptOnce = acceptOnce;
+            this.partial = partial;
+        }
+
+        @Override
+        public String name() {
+            return "flaky";
+        }
+
+        @Override
+        public void deliver(List<NotificationEvent> batch) throws IOException {
+            if (acceptOnce >= 0) {
+                int n = Math.min(acceptOnce, batch.size());
+                for (int i = 0; i < n; i++) received.add(batch.get(i).getMessage());
+                acceptOnce = -1;
+                IOException failure = new IOException("connection reset");
+                throw partial ? new PartialDeliveryException(n, failure) : failure;
+            }
+            for (NotificationEvent e : batch) received.add(e.getMessage());
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static List<String> messages(int n) {
+        List<String> out = new ArrayList<>();
+        for (int i = 0; i < n; i++) out.add("m" + i);
+        return out;
+    }
+
+    @Test
+    public void retryResumesAfterThePartOfTheBatchAlreadyDelivered() {
+        FlakySink sink = new FlakySink(2, true);
+        NotificationDispatcher dispatcher = new NotificationDispatcher(List.of(sink), 100, 64, 3, 100);
+        messages(5).forEach(m -> dispatcher.publish(event(m)));
+        dispatcher.close(5_000);
+
+        assertThat(sink.received).containsExactlyInAnyOrderElementsOf(messages(5));
+        assertThat(sink.received).doesNotHaveDuplicates();
+        assertThat(dispatcher.getFailed()).isZero();
+    }
+
+    @Test
+    public void closeFlushesStopsAndClosesTheSinks() {
+        FlakySink sink = new FlakySink(-1, false);
+        NotificationDispatcher dispatcher = new NotificationDispatcher(List.of(sink), 100, 4, 3, 100);
+        messages(10).forEach(m -> dispatcher.publish(event(m)));
+        dispatcher.close(5_000);
+
+        assertThat(sink.received).containsExactlyElementsOf(messages(10));
+        assertThat(sink.closed).isTrue();
+
+        dispatcher.publish(event("late"));
+        dispatcher.close(5_000);
+        assertThat(sink.received).hasSize(10);
+    }
+
+    @Test
+    public void batchIsCountedAsFailedAfterTheLastAttempt() {
+        NotificationSink broken = new NotificationSink() {
+            @Override
+            public String name() {
+                return "broken";
+            }
+
+            @Override
+            public void deliver(List<NotificationEvent> batch) throws IOException {
+                throw new IOException("down");
+            }
+        };
+        NotificationDispatcher dispatcher = new NotificationDispatcher(List.of(broken), 100, 64, 2, 100);
+        dispatcher.publish(event("a"));
+        dispatcher.close(5_000);
+        assertThat(dispatcher.getFailed()).isEqualTo(1);
+    }
+
+    @Test
+    public void ndjsonSinkAppendsOneLinePerEvent(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("out/events.ndjson");
+        NdjsonFileSink sink = new NdjsonFileSink(file);
+        sink.deliver(List.of(event("a"), event("b")));
+        sink.deliver(List.of(event("c")));
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(2)).contains("\"message\":\"c\"");
+    }
+
+    @Test
+    public void completeLinesCountsOnlyFullyWrittenLines() {
+        int[] ends = {10, 25, 40};
+        assertThat(NdjsonFileSink.completeLines(ends, 0)).isZero();
+        assertThat(NdjsonFileSink.completeLines(ends, 24)).isEqualTo(1);
+        assertThat(NdjsonFileSink.completeLines(ends, 25)).isEqualTo(2);
+        assertThat(NdjsonFileSink.completeLines(ends, 40)).isEqualTo(3);
+    }
+
+    @Test
+    public void disabledWithoutSinks() {
+        NotificationDispatcher dispatcher = new NotificationDispatcher(List.of(), 10, 4, 1, 100);
+        assertThat(dispatcher.isEnabled()).isFalse();
+        dispatcher.publish(event("ignored"));
+        dispatcher.close(0);
+    }
+
+    // Sink care ține firul de livrare blocat până la release
+    private static final class StuckSink implements NotificationSink {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> received = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String name() {
+            return "stuck";
+        }
+
+        @Override
+        public void deliver(List<NotificationEvent> batch) throws IOException {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException("interrupted", e);
+            }
+            for (NotificationEvent e : batch) received.add(e.getMessage());
+        }
+    }
+
+    @Test
+    public void fullQueueWaitsOnceThenDropsUntilTheSinkCatchesUp() throws Exception {
+        StuckSink sink = new StuckSink();
+        NotificationDispatcher dispatcher = new NotificationDispatcher(List.of(sink), 1, 1, 1, 200);
+        dispatcher.publish(event("taken"));
+        // Firul a scos primul eveniment și e blocat în deliver; al doilea umple coada
+        assertThat(sink.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatcher.publish(event("queued"));
+
+        long start = System.nanoTime();
+        dispatcher.publish(event("waited"));
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        start = System.nanoTime();
+        dispatcher.publish(event("dropped at once"));
+        long immediateMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(waitedMs).isGreaterThanOrEqualTo(150);
+        assertThat(immediateMs).isLessThan(150);
+        assertThat(dispatcher.getDropped()).isEqualTo(2);
+
+        sink.release.countDown();
+        dispatcher.close(5_000);
+        assertThat(sink.received).containsExactly("taken", "queued");
+        assertThat(dispatcher.getFailed()).isZero();
+    }
+
+    @Test
+    public void slowSinkLosesNothingWhenItKeepsUpWithinTheTimeout() {
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        NotificationSink slow = new NotificationSink() {
+            @Override
+            public String name() {
+                return "slow";
+            }
+
+            @Override
+            public void deliver(List<NotificationEvent> batch) {
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (NotificationEvent e : batch) received.add(e.getMessage());
+            }
+        };
+        NotificationDispatcher dispatcher = new NotificationDispatcher(List.of(slow), 2, 1, 1, 5_000);
+        messages(50).forEach(m -> dispatcher.publish(event(m)));
+        dispatcher.close(5_000);
+
+        assertThat(received).containsExactlyElementsOf(messages(50));
+        assertThat(dispatcher.getDropped()).isZero();
+    }
+
+    @Test
+    public void closeFailuresAreCounted() {
+        NotificationSink unclosable = new NotificationSink() {
+            @Override
+            public String name() {
+                return "unclosable";
+            }
+
+            @Override
+            public void deliver(List<NotificationEvent> batch) {
+            }
+
+            @Override
+            public void close() throws IOException {
+                throw new IOException("busy");
+            }
+        };
+        NotificationDispatcher dispatcher = new NotificationDispatcher(List.of(unclosable), 10, 4, 1, 100);
+        dispatcher.close(1_000);
+        assertThat(dispatcher.getCloseFailures()).isEqualTo(1);
+    }
+
+    @Test
+    public void badSinkSpecFailsFast() {
+        String old = System.getProperty("notifications.sinks");
+        try {
+            System.setProperty("notifications.sinks", "kafka=/tmp/topic");
+            assertThatThrownBy(NotificationDispatcher::fromSystemProperties)
+                    .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("kafka");
+            System.setProperty("notifications.sinks", "ndjson");
+            assertThatThrownBy(NotificationDispatcher::fromSystemProperties)
+                    .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("KIND=PATH");
+            System.setProperty("notifications.sinks", " , ");
+            assertThat(NotificationDispatcher.fromSystemProperties().isEnabled()).isFalse();
+        } finally {
+            if (old == null) System.clearProperty("notifications.sinks");
+            else System.setProperty("notifications.sinks", old);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package services;
+
+import models.Milestone;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NotificationTopicsTest {
+
+    private static final class Inbox implements Observer {
+        final List<String> messages = new ArrayList<>();
+
+        @Override
+        public void update(String message) {
+            messages.add(message);
+        }
+    }
+
+    @Test
+    public void publishReachesOnlyTheTopicSubscribers() {
+        NotificationTopics topics = new NotificationTopics();
+        Milestone m1 = new Milestone();
+        Milestone m2 = new Milestone();
+        Inbox a = new Inbox();
+        Inbox b = new Inbox();
+        topics.subscribe(m1, a);
+        topics.subscribe(m2, b);
+        topics.subscribe(NotificationTopics.BROADCAST, b);
+
+        topics.publish(m1, "due tomorrow");
+        topics.publish(NotificationTopics.BROADCAST, "hello");
+        assertThat(a.messages).containsExactly("due tomorrow");
+        assertThat(b.messages).containsExactly("hello");
+    }
+
+    @Test
+    public void topicsAreComparedByIdentity() {
+        NotificationTopics topics = new NotificationTopics();
+        Milestone m1 = new Milestone();
+        Milestone m2 = new Milestone();
+        m1.setName("same");
+        m2.setName("same");
+        Inbox a = new Inbox();
+        topics.subscribe(m1, a);
+
+        topics.publish(m2, "not for a");
+        assertThat(a.messages).isEmpty();
+    }
+
+    @Test
+    public void everySubscriberGetsTheSameMessageInstance() {
+        NotificationTopics topics = new NotificationTopics();
+        Milestone m = new Milestone();
+        Inbox a = new Inbox();
+        Inbox b = new Inbox();
+        topics.subscribe(m, a);
+        topics.subscribe(m, b);
+        String message = new String("msg");
+        topics.publish(m, message);
+        assertThat(a.messages.get(0)).isSameAs(message);
+        assertThat(b.messages.get(0)).isSameAs(message);
+    }
+
+    @Test
+    public void unsubscribeAndClearStopDelivery() {
+        NotificationTopics topics = new NotificationTopics();
+        Milestone m = new Milestone();
+        Inbox a = new Inbox();
+        Inbox b = new Inbox();
+        topics.subscribe(m, a);
+        topics.subscribe(m, b);
+
+        topics.unsubscribe(m, a);
+        topics.publish(m, "one");
+        topics.clear();
+        topics.publish(m, "two");
+        assertThat(a.messages).isEmpty();
+        assertThat(b.messages).containsExactly("one");
+    }
+}
@@ -0,0 +1,101 @@
+package services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import commands.CommandInput;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import utils.JsonContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ParallelCommandReaderTest {
+
+    // Destule comenzi cât fișierul să fie tăiat în mai multe bucăți de ~1 MB
+    private static final int COMMANDS = 20_000;
+
+    // Comentariile conțin virgule, paranteze și ghilimele escapate, care nu trebuie să taie bucățile
+    private static String command(int i) {
+        return "{\"command\":\"addComment\",\"username\":\"u" + (i % 7) + "\",\"ticketID\":" + i
+                + ",\"comment\":\"see [x], {y} and \\\"z\\\\\\\" #" + i + "\",\"tickets\":[" + i + "," + (i + 1) + "]}";
+    }
+
+    private static Path write(Path dir, List<String> elements) throws IOException {
+        Path file = dir.resolve("commands.json");
+        Files.writeString(file, "[\n  " + String.join(",\n  ", elements) + "\n]\n");
+        return file;
+    }
+
+    private static List<JsonNode> sequential(Path file, List<CommandInput> out) throws IOException {
+        try (CommandLogParser parser = new CommandLogParser(file.toFile())) {
+            for (CommandInput c = parser.next(); c != null; c = parser.next()) out.add(copy(c));
+        }
+        return trees(out);
+    }
+
+    private static CommandInput copy(CommandInput c) {
+        return JsonContext.MAPPER.convertValue(JsonContext.MAPPER.valueToTree(c), CommandInput.class);
+    }
+
+    private static List<JsonNode> trees(List<CommandInput> commands) {
+        List<JsonNode> trees = new ArrayList<>();
+        for (CommandInput c : commands) trees.add(JsonContext.MAPPER.valueToTree(c));
+        return trees;
+    }
+
+    @Test
+    public void chunkedReadMatchesTheSequentialParserInOrder(@TempDir Path dir) throws IOException {
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < COMMANDS; i++) elements.add(command(i));
+        Path file = write(dir, elements);
+        assertThat(Files.size(file)).isGreaterThan(2L << 20);
+
+        List<CommandInput> parallel = new ArrayList<>();
+        new ParallelCommandReader(file, 3).forEach(parallel::add);
+
+        assertThat(parallel).hasSize(COMMANDS);
+        assertThat(parallel.get(COMMANDS - 1).getComment()).isEqualTo("see [x], {y} and \"z\\\" #" + (COMMANDS - 1));
+        assertThat(trees(parallel)).isEqualTo(sequential(file, new ArrayList<>()));
+    }
+
+    @Test
+    public void nonObjectElementStopsTheRunLikeTheSequentialParser(@TempDir Path dir) throws IOException {
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < COMMANDS; i++) elements.add(i == COMMANDS / 2 ? "\"oops\"" : command(i));
+        Path file = write(dir, elements);
+
+        List<CommandInput> parallel = new ArrayList<>();
+        assertThatThrownBy(() -> new ParallelCommandReader(file, 3).forEach(parallel::add)).isInstanceOf(IOException.class);
+        List<CommandInput> sequential = new ArrayList<>();
+        assertThatThrownBy(() -> sequential(file, sequential)).isInstanceOf(IOException.class);
+
+        assertThat(parallel).hasSize(COMMANDS / 2);
+        assertThat(trees(parallel)).isEqualTo(trees(sequential));
+    }
+
+    @Test
+    public void emptyArrayHasNoCommands(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("empty.json");
+        Files.writeString(file, " [ ] ");
+        List<CommandInput> out = new ArrayList<>();
+        new ParallelCommandReader(file, 2).forEach(out::add);
+        assertThat(out).isEmpty();
+    }
+
+    @Test
+    public void rootMustBeAClosedArray(@TempDir Path dir) throws IOException {
+        Path object = dir.resolve("object.json");
+        Files.writeString(object, "{\"command\":\"x\"}");
+        assertThatThrownBy(() -> new ParallelCommandReader(object, 2).forEach(c -> { })).isInstanceOf(IOException.class);
+
+        Path open = dir.resolve("open.json");
+        Files.writeString(open, "[" + command(0) + ",");
+        assertThatThrownBy(() -> new ParallelCommandReader(open, 2).forEach(c -> { })).isInstanceOf(IOException.class);
+    }
+}
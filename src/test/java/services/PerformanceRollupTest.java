@@ -0,0 +1,67 @@
+package services;
+
+import models.BugTicket;
+import models.FeatureRequestTicket;
+import models.PerformanceRollup;
+import models.Priority;
+import models.Ticket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PerformanceRollupTest {
+    private final TicketSystem system = TicketSystem.getInstance();
+
+    @BeforeEach
+    public void reset() {
+        system.reset();
+    }
+
+    private static Ticket ticket(Ticket t, int id, Priority priority, String type) {
+        t.setId(id);
+        t.setType(type);
+        t.setBusinessPriority(priority);
+        t.setAssignedTo("dev");
+        t.setAssignedAt("2025-03-01");
+        t.setSolvedAt("2025-03-04");
+        return t;
+    }
+
+    @Test
+    public void closingAddsToTheMonthOfTheCloseDate() {
+        system.markClosed(ticket(new BugTicket(), 0, Priority.HIGH, "BUG"), "2025-03-05");
+        system.markClosed(ticket(new FeatureRequestTicket(), 1, Priority.LOW, "FEATURE_REQUEST"), "2025-04-01");
+
+        PerformanceRollup march = system.getPerformanceRollup("dev", YearMonth.of(2025, 3));
+        assertThat(march.getClosedTickets()).isEqualTo(1);
+        assertThat(march.getHighPriorityTickets()).isEqualTo(1);
+        assertThat(march.getBugTickets()).isEqualTo(1);
+        assertThat(march.getResolutionDaySum()).isEqualTo(4);
+
+        PerformanceRollup april = system.getPerformanceRollup("dev", YearMonth.of(2025, 4));
+        assertThat(april.getClosedTickets()).isEqualTo(1);
+        assertThat(april.getFeatureTickets()).isEqualTo(1);
+        assertThat(april.getHighPriorityTickets()).isZero();
+    }
+
+    @Test
+    public void reopeningRemovesTheTicketFromItsMonth() {
+        Ticket t = ticket(new BugTicket(), 0, Priority.CRITICAL, "BUG");
+        system.markClosed(t, "2025-03-05");
+        system.clearClosed(t);
+
+        PerformanceRollup march = system.getPerformanceRollup("dev", YearMonth.of(2025, 3));
+        assertThat(march.getClosedTickets()).isZero();
+        assertThat(march.getHighPriorityTickets()).isZero();
+        assertThat(march.getResolutionDaySum()).isZero();
+        assertThat(t.getClosedEpochDay()).isNull();
+    }
+
+    @Test
+    public void unknownDeveloperOrMonthGivesAnEmptyRollup() {
+        assertThat(system.getPerformanceRollup("nobody", YearMonth.of(2025, 1)).getClosedTickets()).isZero();
+    }
+}
@@ -0,0 +1,62 @@
+package services;
+
+import models.BugTicket;
+import models.ExpertiseArea;
+import models.Priority;
+import models.Status;
+import models.Ticket;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TicketAttributeIndexTest {
+
+    private static Ticket ticket(int id, Priority priority, Status status, ExpertiseArea area) {
+        BugTicket t = new BugTicket();
+        t.setId(id);
+        t.setType("BUG");
+        t.setBusinessPriority(priority);
+        t.setStatus(status);
+        t.setExpertiseArea(area);
+        return t;
+    }
+
+    @Test
+    public void bucketsTicketsByAttribute() {
+        TicketAttributeIndex index = new TicketAttributeIndex();
+        index.add(ticket(0, Priority.LOW, Status.OPEN, ExpertiseArea.BACKEND));
+        index.add(ticket(1, Priority.HIGH, Status.OPEN, null));
+        index.add(ticket(2, Priority.HIGH, Status.CLOSED, ExpertiseArea.BACKEND));
+
+        assertThat(index.all().toArray()).containsExactly(0, 1, 2);
+        assertThat(index.withPriority(Priority.HIGH).toArray()).containsExactly(1, 2);
+        assertThat(index.withType("BUG").cardinality()).isEqualTo(3);
+        assertThat(index.withType("UI_FEEDBACK").isEmpty()).isTrue();
+        assertThat(index.withExpertise(ExpertiseArea.BACKEND).toArray()).containsExactly(0, 2);
+        assertThat(index.withStatus(Status.OPEN, Status.CLOSED).toArray()).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    public void changesMoveTheTicketBetweenBuckets() {
+        TicketAttributeIndex index = new TicketAttributeIndex();
+        Ticket t = ticket(0, Priority.LOW, Status.OPEN, null);
+        index.add(t);
+
+        index.statusChanged(t, Status.OPEN, Status.IN_PROGRESS);
+        index.priorityChanged(t, Priority.LOW, Priority.CRITICAL);
+        assertThat(index.withStatus(Status.OPEN).isEmpty()).isTrue();
+        assertThat(index.withStatus(Status.IN_PROGRESS).toArray()).containsExactly(0);
+        assertThat(index.withPriority(Priority.LOW).isEmpty()).isTrue();
+        assertThat(index.withPriority(Priority.CRITICAL).toArray()).containsExactly(0);
+    }
+
+    @Test
+    public void clearEmptiesEveryBucket() {
+        TicketAttributeIndex index = new TicketAttributeIndex();
+        index.add(ticket(0, Priority.LOW, Status.OPEN, ExpertiseArea.DB));
+        index.clear();
+        assertThat(index.all().isEmpty()).isTrue();
+        assertThat(index.withPriority(Priority.LOW).isEmpty()).isTrue();
+        assertThat(index.withExpertise(ExpertiseArea.DB).isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,89 @@
+package services;
+
+import commands.CommandInput;
+import commands.TicketParams;
+import models.BugTicket;
+import models.BusinessValue;
+import models.FeatureRequestTicket;
+import models.Frequency;
+import models.Priority;
+import models.Status;
+import models.Ticket;
+import models.UiFeedbackTicket;
+import org.junit.jupiter.api.Test;
+import utils.JsonContext;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TicketFactoryTest {
+
+    private static TicketParams params(String json) throws IOException {
+        List<CommandInput> commands = JsonContext.COMMANDS_READER.readValue("[{\"command\":\"reportTicket\",\"params\":" + json + "}]");
+        return commands.get(0).getParams();
+    }
+
+    @Test
+    public void paramsAreDecodedIntoTheRecordOfTheirType() throws IOException {
+        assertThat(params("{\"type\":\"BUG\"}")).isInstanceOf(TicketParams.Bug.class);
+        assertThat(params("{\"title\":\"t\",\"type\":\"FEATURE_REQUEST\"}")).isInstanceOf(TicketParams.FeatureRequest.class);
+        assertThat(params("{\"type\":\"UI_FEEDBACK\"}")).isInstanceOf(TicketParams.UiFeedback.class);
+        assertThat(params("{\"type\":\"TASK\"}")).isInstanceOf(TicketParams.Unknown.class);
+        assertThat(params("{\"title\":\"no type\"}")).isInstanceOf(TicketParams.Unknown.class);
+    }
+
+    @Test
+    public void bugTicketGetsCommonAndSpecificFields() throws IOException {
+        Ticket t = TicketFactory.createTicket(params("{\"type\":\"BUG\",\"title\":\"Crash\",\"businessPriority\":\"HIGH\","
+                + "\"reportedBy\":\"rep\",\"frequency\":\"ALWAYS\",\"errorCode\":500,\"unknownField\":[1]}"), 7, "2025-01-01");
+
+        assertThat(t).isInstanceOf(BugTicket.class);
+        assertThat(t.getId()).isEqualTo(7);
+        assertThat(t.getStatus()).isEqualTo(Status.OPEN);
+        assertThat(t.getCreatedAt()).isEqualTo("2025-01-01");
+        assertThat(t.getBusinessPriority()).isEqualTo(Priority.HIGH);
+        assertThat(t.getReportedBy()).isEqualTo("rep");
+        assertThat(((BugTicket) t).getFrequency()).isEqualTo(Frequency.ALWAYS);
+        assertThat(((BugTicket) t).getErrorCode()).isEqualTo(500);
+    }
+
+    @Test
+    public void missingReporterMeansAnonymous() throws IOException {
+        Ticket t = TicketFactory.createTicket(params("{\"type\":\"FEATURE_REQUEST\",\"businessValue\":\"M\"}"), 0, "2025-01-01");
+        assertThat(t).isInstanceOf(FeatureRequestTicket.class);
+        assertThat(t.getReportedBy()).isEmpty();
+        assertThat(((FeatureRequestTicket) t).getBusinessValue()).isEqualTo(BusinessValue.M);
+    }
+
+    @Test
+    public void uiFeedbackKeepsItsFields() throws IOException {
+        Ticket t = TicketFactory.createTicket(params("{\"type\":\"UI_FEEDBACK\",\"usabilityScore\":4,\"uiElementId\":\"btn\"}"), 1, "2025-01-01");
+        assertThat(t).isInstanceOf(UiFeedbackTicket.class);
+        assertThat(((UiFeedbackTicket) t).getUsabilityScore()).isEqualTo(4);
+        assertThat(((UiFeedbackTicket) t).getUiElementId()).isEqualTo("btn");
+    }
+
+    @Test
+    public void invalidPriorityIsRejected() throws IOException {
+        TicketParams invalid = params("{\"type\":\"BUG\",\"reportedBy\":\"rep\",\"businessPriority\":\"URGENT\"}");
+        assertThat(invalid.businessPriority()).isNull();
+        assertThatThrownBy(() -> TicketFactory.createTicket(invalid, 3, "2025-01-01"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("priority");
+    }
+
+    @Test
+    public void anonymousReportsGetLowPriority() throws IOException {
+        Ticket t = TicketFactory.createTicket(params("{\"type\":\"BUG\",\"businessPriority\":\"URGENT\"}"), 0, "2025-01-01");
+        assertThat(t.getBusinessPriority()).isEqualTo(Priority.LOW);
+    }
+
+    @Test
+    public void unknownTypeIsRejected() throws IOException {
+        TicketParams unknown = params("{\"type\":\"TASK\"}");
+        assertThatThrownBy(() -> TicketFactory.createTicket(unknown, 0, "2025-01-01"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("TASK");
+    }
+}
@@ -0,0 +1,55 @@
+package services;
+
+import models.BugTicket;
+import models.Ticket;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TicketOrderIndexTest {
+
+    private static Ticket ticket(int id, String createdAt) {
+        BugTicket t = new BugTicket();
+        t.setId(id);
+        t.setCreatedAt(createdAt);
+        return t;
+    }
+
+    @Test
+    public void inOrderArrivalsAreAppended() {
+        TicketOrderIndex index = new TicketOrderIndex();
+        index.add(ticket(0, "2025-01-01"));
+        index.add(ticket(1, "2025-01-01"));
+        index.add(ticket(2, "2025-01-05"));
+
+        assertThat(index.all()).extracting(Ticket::getId).containsExactly(0, 1, 2);
+        assertThat(index.isIdOrdered()).isTrue();
+    }
+
+    @Test
+    public void olderTicketIsInsertedByCreatedAtThenId() {
+        TicketOrderIndex index = new TicketOrderIndex();
+        index.add(ticket(0, "2025-01-01"));
+        index.add(ticket(1, "2025-01-05"));
+        index.add(ticket(2, "2025-01-03"));
+        index.add(ticket(3, "2025-01-01"));
+
+        assertThat(index.all()).extracting(Ticket::getId).containsExactly(0, 3, 2, 1);
+        assertThat(index.isIdOrdered()).isFalse();
+    }
+
+    @Test
+    public void smallerIdWithTheSameDateBreaksIdOrder() {
+        TicketOrderIndex index = new TicketOrderIndex();
+        index.add(ticket(5, "2025-01-01"));
+        index.add(ticket(6, "2025-01-02"));
+        index.add(ticket(2, "2025-01-02"));
+
+        assertThat(index.all()).extracting(Ticket::getId).containsExactly(5, 2, 6);
+        assertThat(index.isIdOrdered()).isFalse();
+
+        index.clear();
+        assertThat(index.all()).isEmpty();
+        assertThat(index.isIdOrdered()).isTrue();
+    }
+}
@@ -0,0 +1,68 @@
+package services;
+
+import models.BugTicket;
+import models.Developer;
+import models.Manager;
+import models.Priority;
+import models.Ticket;
+import models.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TicketsTouchedByTest {
+    private final TicketSystem system = TicketSystem.getInstance();
+
+    @BeforeEach
+    public void reset() {
+        system.reset();
+    }
+
+    private Ticket ticket(int id) {
+        BugTicket t = new BugTicket();
+        t.setId(id);
+        t.setType("BUG");
+        t.setBusinessPriority(Priority.LOW);
+        t.setCreatedAt("2025-01-01");
+        system.addTicket(t);
+        return t;
+    }
+
+    private static <U extends User> U user(U u, String name) {
+        u.setUsername(name);
+        return u;
+    }
+
+    @Test
+    public void developerKeepsTicketsAssignedInThePast() {
+        Developer dev = user(new Developer(), "dev");
+        Ticket current = ticket(4);
+        Ticket past = ticket(1);
+        ticket(2);
+
+        system.setAssignee(past, "dev");
+        system.recordAssignment(dev, past);
+        system.setAssignee(past, null);
+        system.setAssignee(current, "dev");
+        system.recordAssignment(dev, current);
+
+        assertThat(system.ticketsTouchedBy(dev).toArray()).containsExactly(1, 4);
+    }
+
+    @Test
+    public void nonDevelopersOnlySeeCurrentAssignments() {
+        Manager manager = user(new Manager(), "boss");
+        Ticket t = ticket(3);
+        system.recordAssignment(manager, ticket(0));
+        system.setAssignee(t, "boss");
+
+        assertThat(system.ticketsTouchedBy(manager).toArray()).containsExactly(3);
+    }
+
+    @Test
+    public void userWithoutTicketsTouchedNothing() {
+        ticket(0);
+        assertThat(system.ticketsTouchedBy(user(new Developer(), "idle")).isEmpty()).isTrue();
+    }
+}
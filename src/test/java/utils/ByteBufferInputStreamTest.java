@@ -0,0 +1,43 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ByteBufferInputStreamTest {
+
+    @Test
+    public void readsFromPositionToLimit() {
+        ByteBuffer buf = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6});
+        buf.position(1).limit(5);
+        ByteBufferInputStream in = new ByteBufferInputStream(buf);
+
+        assertThat(in.available()).isEqualTo(4);
+        assertThat(in.read()).isEqualTo(2);
+        byte[] out = new byte[10];
+        assertThat(in.read(out, 2, 10 - 2)).isEqualTo(3);
+        assertThat(out).startsWith(0, 0, 3, 4, 5);
+        assertThat(in.read()).isEqualTo(-1);
+        assertThat(in.read(out, 0, 4)).isEqualTo(-1);
+        assertThat(in.read(out, 0, 0)).isZero();
+    }
+
+    @Test
+    public void bytesAreUnsigned() {
+        ByteBufferInputStream in = new ByteBufferInputStream(ByteBuffer.wrap(new byte[]{(byte) 0xFF, (byte) 0x80}));
+        assertThat(in.read()).isEqualTo(255);
+        assertThat(in.read()).isEqualTo(128);
+    }
+
+    @Test
+    public void skipStopsAtTheLimitAndIgnoresNegativeCounts() {
+        ByteBufferInputStream in = new ByteBufferInputStream(ByteBuffer.wrap(new byte[]{1, 2, 3, 4}));
+        assertThat(in.skip(-3)).isZero();
+        assertThat(in.skip(2)).isEqualTo(2);
+        assertThat(in.read()).isEqualTo(3);
+        assertThat(in.skip(Long.MAX_VALUE)).isEqualTo(1);
+        assertThat(in.available()).isZero();
+    }
+}
@@ -0,0 +1,104 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompressedBitmapTest {
+
+    private static CompressedBitmap of(Iterable<Integer> values) {
+        CompressedBitmap b = new CompressedBitmap();
+        values.forEach(b::add);
+        return b;
+    }
+
+    private static int[] sorted(TreeSet<Integer> set) {
+        return set.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Test
+    public void addRemoveAndContains() {
+        CompressedBitmap b = new CompressedBitmap();
+        b.add(5);
+        b.add(5);
+        b.add(70000);
+        assertThat(b.cardinality()).isEqualTo(2);
+        assertThat(b.contains(5)).isTrue();
+        assertThat(b.contains(6)).isFalse();
+
+        b.remove(5);
+        b.remove(12345);
+        assertThat(b.toArray()).containsExactly(70000);
+        b.clear();
+        assertThat(b.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void denseContainerConvertsBackWhenItShrinks() {
+        CompressedBitmap b = new CompressedBitmap();
+        for (int i = 0; i < 10000; i++) b.add(i * 2);
+        assertThat(b.cardinality()).isEqualTo(10000);
+        assertThat(b.contains(19998)).isTrue();
+        assertThat(b.contains(19999)).isFalse();
+
+        for (int i = 100; i < 10000; i++) b.remove(i * 2);
+        assertThat(b.cardinality()).isEqualTo(100);
+        assertThat(b.toArray()).hasSize(100).startsWith(0, 2, 4).endsWith(198);
+    }
+
+    @Test
+    public void forEachVisitsValuesInAscendingOrder() {
+        CompressedBitmap b = of(List.of(131072, 3, 65536, 1));
+        List<Integer> seen = new ArrayList<>();
+        b.forEach(seen::add);
+        assertThat(seen).containsExactly(1, 3, 65536, 131072);
+    }
+
+    @Test
+    public void nextSetBitAndStreamWalkBothContainerKinds() {
+        CompressedBitmap b = new CompressedBitmap();
+        for (int i = 0; i < 5000; i++) b.add(i * 3);
+        b.add(70000);
+        b.add(200000);
+        assertThat(b.nextSetBit(0)).isEqualTo(0);
+        assertThat(b.nextSetBit(1)).isEqualTo(3);
+        assertThat(b.nextSetBit(14998)).isEqualTo(70000);
+        assertThat(b.nextSetBit(70001)).isEqualTo(200000);
+        assertThat(b.nextSetBit(200001)).isEqualTo(-1);
+        assertThat(b.stream().toArray()).containsExactly(b.toArray());
+        assertThat(b.stream().limit(2).toArray()).containsExactly(0, 3);
+        assertThat(new CompressedBitmap().stream().count()).isZero();
+    }
+
+    @Test
+    public void setOperationsAgreeWithTreeSet() {
+        Random random = new Random(7);
+        // Densități diferite, ca să fie combinate containere array și bitmap
+        for (int bound : new int[] {100, 20000, 200000}) {
+            TreeSet<Integer> a = new TreeSet<>();
+            TreeSet<Integer> b = new TreeSet<>();
+            for (int i = 0; i < 12000; i++) {
+                a.add(random.nextInt(bound));
+                b.add(random.nextInt(bound));
+            }
+            TreeSet<Integer> and = new TreeSet<>(a);
+            and.retainAll(b);
+            TreeSet<Integer> or = new TreeSet<>(a);
+            or.addAll(b);
+
+            CompressedBitmap ba = of(a);
+            CompressedBitmap bb = of(b);
+            assertThat(CompressedBitmap.and(ba, bb).toArray()).containsExactly(sorted(and));
+            assertThat(CompressedBitmap.or(ba, bb).toArray()).containsExactly(sorted(or));
+            assertThat(CompressedBitmap.andCardinality(ba, bb)).isEqualTo(and.size());
+            // Operanzii rămân neschimbați
+            assertThat(ba.toArray()).containsExactly(sorted(a));
+            assertThat(bb.cardinality()).isEqualTo(b.size());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package utils;
+
+import commands.CommandInput;
+import commands.TicketParams;
+import models.Developer;
+import models.User;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonContextTest {
+
+    @Test
+    public void unknownEnumInACommandBecomesNull() throws IOException {
+        List<CommandInput> commands = JsonContext.COMMANDS_READER.readValue(
+                "[{\"command\":\"reportTicket\",\"params\":{\"type\":\"BUG\",\"expertiseArea\":\"MOBILE\",\"title\":\"t\"}},"
+                        + "{\"command\":\"viewTickets\",\"extra\":1}]");
+        assertThat(commands).hasSize(2);
+        assertThat(commands.get(0).getParams()).isInstanceOf(TicketParams.Bug.class);
+        assertThat(commands.get(0).getParams().expertiseArea()).isNull();
+        assertThat(commands.get(1).getCommand()).isEqualTo("viewTickets");
+    }
+
+    @Test
+    public void usersAreReadAsTheirRoleSubtype() throws IOException {
+        List<User> users = JsonContext.USERS_READER.readValue(
+                "[{\"username\":\"d\",\"role\":\"DEVELOPER\",\"seniority\":\"MID\"},{\"username\":\"r\",\"role\":\"REPORTER\"}]");
+        assertThat(users.get(0)).isInstanceOf(Developer.class);
+        assertThat(users.get(1).getClass()).isEqualTo(User.class);
+    }
+
+    @Test
+    public void datesAreWrittenAsIsoStrings() throws IOException {
+        assertThat(JsonContext.MAPPER.writeValueAsString(LocalDate.of(2025, 1, 2))).isEqualTo("\"2025-01-02\"");
+    }
+
+    @Test
+    public void prettyWriterIndentsLikeTheDefaultPrinter() throws IOException {
+        assertThat(JsonContext.PRETTY_WRITER.writeValueAsString(List.of(1)))
+                .isEqualTo(JsonContext.MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(List.of(1)));
+    }
+}
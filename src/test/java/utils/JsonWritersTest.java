@@ -0,0 +1,105 @@
+package utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import models.BugTicket;
+import models.Comment;
+import models.HistoryEntry;
+import models.Priority;
+import models.Status;
+import models.Ticket;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonWritersTest {
+
+    @FunctionalInterface
+    private interface Body {
+        void write(JsonGenerator g) throws IOException;
+    }
+
+    private static String json(Body body) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator g = JsonContext.MAPPER.getFactory().createGenerator(out)) {
+            body.write(g);
+        }
+        return out.toString();
+    }
+
+    private static Ticket ticket() {
+        BugTicket t = new BugTicket();
+        t.setId(3);
+        t.setType("BUG");
+        t.setTitle("Crash");
+        t.setBusinessPriority(Priority.HIGH);
+        t.setStatus(Status.OPEN);
+        t.setCreatedAt("2025-01-01");
+        t.setReportedBy("rep");
+        return t;
+    }
+
+    private static Comment comment(String author, String content) {
+        Comment c = new Comment();
+        c.setAuthor(author);
+        c.setContent(content);
+        c.setCreatedAt("2025-01-02");
+        return c;
+    }
+
+    @Test
+    public void commentMatchesTheDatabindOutput() throws IOException {
+        Comment c = comment("dev", "needs \"logs\"");
+        assertThat(json(g -> JsonWriters.writeComment(g, c))).isEqualTo(JsonContext.COMMENT_WRITER.writeValueAsString(c));
+    }
+
+    @Test
+    public void historyEntryOmitsNullFieldsLikeDatabind() throws IOException {
+        HistoryEntry e = new HistoryEntry();
+        e.setFrom("OPEN");
+        e.setTo("IN_PROGRESS");
+        e.setBy("dev");
+        e.setTimestamp("2025-01-02");
+        e.setAction("STATUS_CHANGED");
+        assertThat(json(g -> JsonWriters.writeHistoryEntry(g, e))).isEqualTo(JsonContext.HISTORY_WRITER.writeValueAsString(e));
+    }
+
+    @Test
+    public void listTicketUsesEmptyStringsForMissingAssignment() throws IOException {
+        Ticket t = ticket();
+        t.addComment(comment("dev", "hi"));
+        assertThat(json(g -> JsonWriters.writeListTicket(g, t, f -> true))).isEqualTo(
+                "{\"id\":3,\"type\":\"BUG\",\"title\":\"Crash\",\"businessPriority\":\"HIGH\",\"status\":\"OPEN\","
+                        + "\"createdAt\":\"2025-01-01\",\"assignedAt\":\"\",\"solvedAt\":\"\",\"assignedTo\":\"\","
+                        + "\"reportedBy\":\"rep\",\"comments\":[{\"author\":\"dev\",\"content\":\"hi\",\"createdAt\":\"2025-01-02\"}]}");
+    }
+
+    @Test
+    public void assignedTicketKeepsNullAssignedAt() throws IOException {
+        assertThat(json(g -> JsonWriters.writeAssignedTicket(g, ticket()))).contains("\"assignedAt\":null,\"reportedBy\":\"rep\"");
+    }
+
+    @Test
+    public void searchTicketWritesMatchingWordsOnlyForKeywordSearches() throws IOException {
+        Ticket t = ticket();
+        assertThat(json(g -> JsonWriters.writeSearchTicket(g, t, f -> true, null))).doesNotContain("matchingWords");
+        assertThat(json(g -> JsonWriters.writeSearchTicket(g, t, f -> true, List.of("cr"))))
+                .endsWith("\"reportedBy\":\"rep\",\"matchingWords\":[\"cr\"]}");
+    }
+
+    @Test
+    public void fieldsProjectionSkipsUnwantedFields() throws IOException {
+        assertThat(json(g -> JsonWriters.writeListTicket(g, ticket(), f -> f.equals("id") || f.equals("status"))))
+                .isEqualTo("{\"id\":3,\"status\":\"OPEN\"}");
+    }
+
+    @Test
+    public void nullListsAndElementsAreWrittenAsNull() throws IOException {
+        assertThat(json(g -> JsonWriters.writeStrings(g, null))).isEqualTo("null");
+        assertThat(json(g -> JsonWriters.writeInts(g, Arrays.asList(1, null, 3)))).isEqualTo("[1,null,3]");
+    }
+}
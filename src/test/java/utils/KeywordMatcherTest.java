@@ -0,0 +1,68 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void findsOverlappingKeywordsThroughFailureLinks() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("hers", "he", "she", "his"));
+        assertThat(matcher.match("ushers")).containsExactly("he", "hers", "she");
+        assertThat(matcher.match("this")).containsExactly("his");
+    }
+
+    @Test
+    public void keywordsAreMatchedCaseInsensitivelyButReportedAsGiven() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("Login", "login", "CRASH"));
+        assertThat(matcher.getNeedles()).containsExactly("crash", "login");
+        assertThat(matcher.match("crash on login")).containsExactly("CRASH", "Login", "login");
+    }
+
+    @Test
+    public void duplicatesAreReportedOnce() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("ui", "ui"));
+        assertThat(matcher.match("ui ui ui")).containsExactly("ui");
+    }
+
+    @Test
+    public void emptyKeywordMatchesAnyText() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("", "x"));
+        assertThat(matcher.match("")).containsExactly("");
+        assertThat(matcher.match("abc")).containsExactly("");
+        assertThat(matcher.match("xyz")).containsExactly("", "x");
+    }
+
+    @Test
+    public void noMatchGivesAnEmptyList() {
+        assertThat(new KeywordMatcher(List.of("dark")).match("light mode")).isEmpty();
+    }
+
+    @Test
+    public void agreesWithStringContains() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<String> keywords = new ArrayList<>();
+            for (int k = random.nextInt(6); k >= 0; k--) keywords.add(word(random, 1 + random.nextInt(4)));
+            String text = word(random, random.nextInt(30));
+
+            TreeSet<String> expected = new TreeSet<>();
+            for (String k : keywords) {
+                if (text.contains(k.toLowerCase())) expected.add(k);
+            }
+            assertThat(new KeywordMatcher(keywords).match(text)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private static String word(Random random, int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) sb.append((char) ('a' + random.nextInt(3)));
+        return sb.toString();
+    }
+}
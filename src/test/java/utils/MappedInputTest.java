@@ -0,0 +1,86 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class MappedInputTest {
+
+    private static byte[] bytes(int size) {
+        byte[] data = new byte[size];
+        new Random(42).nextBytes(data);
+        return data;
+    }
+
+    @Test
+    public void smallFileIsReadThroughABuffer(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("users.json");
+        byte[] data = bytes(1000);
+        Files.write(file, data);
+        try (InputStream in = MappedInput.open(file)) {
+            assertThat(in).isInstanceOf(BufferedInputStream.class);
+            assertThat(in.readAllBytes()).isEqualTo(data);
+        }
+    }
+
+    @Test
+    public void largeFileIsMappedAndReadWhole(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("in.json");
+        byte[] data = bytes((1 << 16) + 12345);
+        Files.write(file, data);
+        try (InputStream in = MappedInput.open(file)) {
+            assertThat(in).isInstanceOf(ByteBufferInputStream.class);
+            assertThat(in.available()).isEqualTo(data.length);
+            assertThat(in.readAllBytes()).isEqualTo(data);
+            assertThat(in.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    public void mappingOutlivesTheFileBeingReplaced(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("in.json");
+        byte[] data = bytes(1 << 17);
+        Files.write(file, data);
+        try (InputStream in = MappedInput.open(file)) {
+            // Canalul e deja închis; maparea trebuie să rămână citibilă
+            Files.move(file, dir.resolve("moved.json"));
+            assertThat(in.readAllBytes()).isEqualTo(data);
+        }
+    }
+
+    @Test
+    public void pipeFallsBackToStreamReading(@TempDir Path dir) throws Exception {
+        Path fifo = dir.resolve("commands.fifo");
+        boolean created;
+        try {
+            created = new ProcessBuilder("mkfifo", fifo.toString()).start().waitFor() == 0;
+        } catch (IOException e) {
+            created = false;
+        }
+        assumeTrue(created, "mkfifo indisponibil");
+
+        byte[] data = bytes(200_000);
+        Thread writer = Thread.ofPlatform().start(() -> {
+            try (OutputStream out = Files.newOutputStream(fifo)) {
+                out.write(data);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        try (InputStream in = MappedInput.open(fifo)) {
+            assertThat(in).isInstanceOf(BufferedInputStream.class);
+            assertThat(in.readAllBytes()).isEqualTo(data);
+        }
+        writer.join();
+    }
+}
@@ -0,0 +1,99 @@
+package utils;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OutputFormatTest {
+
+    private static List<ObjectNode> responses() {
+        ObjectNode first = JsonContext.MAPPER.createObjectNode();
+        first.put("command", "viewTickets");
+        first.putArray("tickets").addObject().put("id", 0).put("title", "ă \"quoted\"\nline");
+        ObjectNode second = JsonContext.MAPPER.createObjectNode();
+        second.put("command", "search");
+        second.put("score", 12.5);
+        second.putNull("nextCursor");
+        return List.of(first, second);
+    }
+
+    @Test
+    public void everyFormatReadsBackTheSameResponses(@TempDir Path dir) throws IOException {
+        ArrayNode expected = JsonContext.MAPPER.valueToTree(responses());
+        for (OutputFormat format : OutputFormat.values()) {
+            File file = dir.resolve("out." + format).toFile();
+            format.write(file, responses());
+            assertThat(format.read(file)).as(format.name()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void ndjsonWritesOneResponsePerLine(@TempDir Path dir) throws IOException {
+        File file = dir.resolve("out.ndjson").toFile();
+        OutputFormat.NDJSON.write(file, responses());
+        List<String> lines = Files.readAllLines(file.toPath());
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(1)).isEqualTo("{\"command\":\"search\",\"score\":12.5,\"nextCursor\":null}");
+    }
+
+    @Test
+    public void prettyIsTheCheckerFormat(@TempDir Path dir) throws IOException {
+        File file = dir.resolve("out.json").toFile();
+        OutputFormat.PRETTY.write(file, responses());
+        assertThat(Files.readString(file.toPath())).isEqualTo(JsonContext.PRETTY_WRITER.writeValueAsString(responses()));
+    }
+
+    @Test
+    public void parseIsCaseInsensitiveAndRejectsUnknownNames() {
+        assertThat(OutputFormat.parse(" Smile ")).isEqualTo(OutputFormat.SMILE);
+        assertThatThrownBy(() -> OutputFormat.parse("xml")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void invalidSystemPropertyIsAClearError() {
+        String previous = System.getProperty("output.format");
+        System.setProperty("output.format", "xml");
+        try {
+            assertThatThrownBy(OutputFormat::fromSystemProperties).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("output.format").hasMessageContaining("'xml'");
+        } finally {
+            if (previous == null) System.clearProperty("output.format");
+            else System.setProperty("output.format", previous);
+        }
+    }
+
+    @Test
+    public void responsesWrittenOneByOneMatchTheWholeArray(@TempDir Path dir) throws IOException {
+        File streamed = dir.resolve("streamed.json").toFile();
+        try (OutputFormat.ResponseWriter out = OutputFormat.COMPACT.open(streamed)) {
+            for (ObjectNode res : responses()) out.write(res);
+        }
+        assertThat(Files.readString(streamed.toPath())).isEqualTo(JsonContext.MAPPER.writeValueAsString(responses()));
+
+        File empty = dir.resolve("empty.json").toFile();
+        OutputFormat.PRETTY.open(empty).close();
+        assertThat(Files.readString(empty.toPath())).isEqualTo(JsonContext.PRETTY_WRITER.writeValueAsString(List.of()));
+    }
+
+    @Test
+    public void prettyIsTheDefault() {
+        assertThat(OutputFormat.active()).isEqualTo(OutputFormat.PRETTY);
+    }
+
+    @Test
+    public void readRejectsANonArrayRoot(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("obj.json");
+        Files.writeString(file, "{}");
+        assertThatThrownBy(() -> OutputFormat.COMPACT.read(file.toFile())).isInstanceOf(IOException.class);
+    }
+}
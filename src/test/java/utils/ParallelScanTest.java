@@ -0,0 +1,46 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParallelScanTest {
+    // Peste prag, ca lista să fie împărțită în mai multe task-uri
+    private static final List<Integer> LARGE = IntStream.range(0, ParallelScan.THRESHOLD * 5 + 17).boxed().toList();
+    private static final List<Integer> SMALL = IntStream.range(0, 100).boxed().toList();
+
+    @Test
+    public void filterKeepsTheOriginalOrder() {
+        for (List<Integer> items : List.of(SMALL, LARGE)) {
+            List<Integer> expected = items.stream().filter(i -> i % 3 == 0).toList();
+            assertThat(ParallelScan.filter(items, i -> i % 3 == 0)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    public void mapWritesEachResultAtItsPosition() {
+        for (List<Integer> items : List.of(SMALL, LARGE)) {
+            List<String> mapped = ParallelScan.map(items, i -> "#" + i);
+            assertThat(mapped).hasSize(items.size());
+            assertThat(mapped.get(items.size() - 1)).isEqualTo("#" + (items.size() - 1));
+            assertThat(mapped).containsExactlyElementsOf(items.stream().map(i -> "#" + i).toList());
+        }
+    }
+
+    @Test
+    public void mapToDoubleMatchesTheSequentialValues() {
+        double[] values = ParallelScan.mapToDouble(LARGE, i -> i / 2.0);
+        assertThat(values).hasSize(LARGE.size());
+        for (int i = 0; i < values.length; i++) assertThat(values[i]).isEqualTo(i / 2.0);
+    }
+
+    @Test
+    public void emptyListGivesEmptyResults() {
+        assertThat(ParallelScan.filter(List.<Integer>of(), i -> true)).isEmpty();
+        assertThat(ParallelScan.map(List.<Integer>of(), i -> i)).isEmpty();
+        assertThat(ParallelScan.mapToDouble(List.<Integer>of(), i -> i)).isEmpty();
+    }
+}
@@ -0,0 +1,102 @@
+package utils;
+
+import models.BugTicket;
+import models.Comment;
+import models.HistoryAction;
+import models.HistoryEntry;
+import models.Ticket;
+import org.junit.jupiter.api.Test;
+import services.TicketSystem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SymbolTableTest {
+
+    @Test
+    public void internAssignsDenseStableIds() {
+        SymbolTable symbols = new SymbolTable();
+        assertThat(symbols.intern("alice")).isEqualTo(0);
+        assertThat(symbols.intern("bob")).isEqualTo(1);
+        assertThat(symbols.intern("alice")).isEqualTo(0);
+        assertThat(symbols.nameOf(1)).isEqualTo("bob");
+    }
+
+    @Test
+    public void nullMapsToNone() {
+        SymbolTable symbols = new SymbolTable();
+        assertThat(symbols.intern(null)).isEqualTo(SymbolTable.NONE);
+        assertThat(symbols.nameOf(SymbolTable.NONE)).isNull();
+    }
+
+    @Test
+    public void idOfDoesNotIntern() {
+        SymbolTable symbols = new SymbolTable();
+        assertThat(symbols.idOf("carol")).isEqualTo(SymbolTable.NONE);
+        assertThat(symbols.intern("carol")).isEqualTo(0);
+        assertThat(symbols.idOf("carol")).isEqualTo(0);
+    }
+
+    @Test
+    public void clearStartsTheIdsOver() {
+        SymbolTable symbols = new SymbolTable();
+        for (int i = 0; i < 100; i++) symbols.intern("u" + i);
+        symbols.clear();
+        assertThat(symbols.idOf("u5")).isEqualTo(SymbolTable.NONE);
+        assertThat(symbols.intern("u99")).isEqualTo(0);
+    }
+
+    @Test
+    public void modelsKeepTheirNamesAcrossReset() {
+        TicketSystem system = TicketSystem.getInstance();
+        system.reset();
+        Ticket kept = new BugTicket();
+        kept.setReportedBy("alice");
+        kept.setAssignedTo("bob");
+        Comment comment = new Comment("alice", "comentariu vechi", "2025-01-01");
+        system.addTicket(kept);
+        system.getHistoryLog().record(kept, "2025-01-01", HistoryAction.ASSIGNED, "bob");
+
+        // După reset tabela e golită și reumplută cu alte nume, în altă ordine
+        system.reset();
+        Ticket fresh = new BugTicket();
+        fresh.setId(0);
+        system.addTicket(fresh);
+        system.getHistoryLog().record(fresh, "2025-02-01", HistoryAction.ASSIGNED, "zed");
+
+        assertThat(kept.getReportedBy()).isEqualTo("alice");
+        assertThat(kept.getAssignedTo()).isEqualTo("bob");
+        assertThat(comment.getAuthor()).isEqualTo("alice");
+        assertThat(fresh.getHistory()).extracting(HistoryEntry::getBy).containsExactly("zed");
+        system.reset();
+    }
+
+    @Test
+    public void readersSeeEveryInternedNameWithoutLocking() throws Exception {
+        SymbolTable symbols = new SymbolTable();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 3; r++) {
+                readers.add(pool.submit(() -> {
+                    for (int i = 0; i < 20000; i++) {
+                        int id = symbols.idOf("n" + i);
+                        if (id != SymbolTable.NONE) assertThat(symbols.nameOf(id)).isEqualTo("n" + i);
+                    }
+                }));
+            }
+            for (int i = 0; i < 20000; i++) symbols.intern("n" + i);
+            for (Future<?> f : readers) f.get();
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        assertThat(symbols.nameOf(19999)).isEqualTo("n19999");
+    }
+}
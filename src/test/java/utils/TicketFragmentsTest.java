@@ -0,0 +1,126 @@
+package utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import models.BugTicket;
+import models.Comment;
+import models.Priority;
+import models.Status;
+import models.Ticket;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TicketFragmentsTest {
+
+    @FunctionalInterface
+    private interface TicketWriter {
+        void write(JsonGenerator g, Ticket t) throws IOException;
+    }
+
+    // Răspunsul unei comenzi, construit și scris ca în App (TokenBuffer în ObjectNode, apoi PRETTY_WRITER)
+    private static String response(List<Ticket> tickets, TicketWriter writer) throws IOException {
+        TokenBuffer buf = new TokenBuffer(JsonContext.MAPPER, false);
+        buf.writeStartArray();
+        for (Ticket t : tickets) writer.write(buf, t);
+        buf.writeEndArray();
+        ObjectNode res = JsonContext.MAPPER.createObjectNode();
+        res.put("command", "viewTickets");
+        res.putPOJO("tickets", buf);
+        return JsonContext.PRETTY_WRITER.writeValueAsString(List.of(res));
+    }
+
+    private static Ticket ticket(int id) {
+        BugTicket t = new BugTicket();
+        t.setId(id);
+        t.setType("BUG");
+        t.setTitle("Ticket " + id);
+        t.setBusinessPriority(Priority.LOW);
+        t.setStatus(Status.OPEN);
+        t.setCreatedAt("2025-01-01");
+        t.setReportedBy("rep");
+        return t;
+    }
+
+    private static Comment comment(String content) {
+        Comment c = new Comment();
+        c.setAuthor("dev");
+        c.setContent(content);
+        c.setCreatedAt("2025-01-02");
+        return c;
+    }
+
+    @Test
+    public void cachedFragmentsMatchFieldByFieldOutput() throws IOException {
+        Ticket a = ticket(0);
+        a.addComment(comment("line\nbreak"));
+        List<Ticket> tickets = List.of(a, ticket(1));
+
+        assertThat(response(tickets, (g, t) -> TicketFragments.write(g, t, TicketFragments.View.LIST)))
+                .isEqualTo(response(tickets, (g, t) -> JsonWriters.writeListTicket(g, t, f -> true)));
+        assertThat(response(tickets, (g, t) -> TicketFragments.write(g, t, TicketFragments.View.ASSIGNED)))
+                .isEqualTo(response(tickets, JsonWriters::writeAssignedTicket));
+        assertThat(response(tickets, (g, t) -> TicketFragments.write(g, t, TicketFragments.View.SEARCH)))
+                .isEqualTo(response(tickets, (g, t) -> JsonWriters.writeSearchTicket(g, t, f -> true, null)));
+    }
+
+    @Test
+    public void fragmentsFollowTheTargetGeneratorAtAnyDepth() throws IOException {
+        Ticket t = ticket(0);
+        t.addComment(comment("nested"));
+        TicketWriter cached = (g, x) -> TicketFragments.write(g, x, TicketFragments.View.LIST);
+        TicketWriter direct = (g, x) -> JsonWriters.writeListTicket(g, x, f -> true);
+        // Același fragment din cache, redat o dată la adâncimea obișnuită și o dată mai adânc
+        assertThat(nested(t, cached)).isEqualTo(nested(t, direct));
+        assertThat(response(List.of(t), cached)).isEqualTo(response(List.of(t), direct));
+    }
+
+    private static String nested(Ticket t, TicketWriter writer) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator g = JsonContext.MAPPER.getFactory().createGenerator(out)) {
+            g.useDefaultPrettyPrinter();
+            g.writeStartObject();
+            g.writeObjectFieldStart("outer");
+            g.writeArrayFieldStart("tickets");
+            writer.write(g, t);
+            g.writeEndArray();
+            g.writeEndObject();
+            g.writeEndObject();
+        }
+        return out.toString();
+    }
+
+    @Test
+    public void changingTheTicketInvalidatesItsFragments() throws IOException {
+        Ticket t = ticket(0);
+        List<Ticket> tickets = List.of(t);
+        TicketWriter cached = (g, x) -> TicketFragments.write(g, x, TicketFragments.View.LIST);
+        assertThat(response(tickets, cached)).contains("\"status\" : \"OPEN\"");
+
+        long version = t.getVersion();
+        t.setStatus(Status.IN_PROGRESS);
+        t.setAssignedTo("dev");
+        assertThat(t.getVersion()).isGreaterThan(version);
+        assertThat(response(tickets, cached)).contains("\"status\" : \"IN_PROGRESS\"").contains("\"assignedTo\" : \"dev\"");
+
+        int slot = t.addComment(comment("first"));
+        assertThat(response(tickets, cached)).contains("\"content\" : \"first\"");
+        t.removeComment(slot);
+        assertThat(response(tickets, cached)).doesNotContain("first");
+    }
+
+    @Test
+    public void unchangedTicketKeepsItsVersion() throws IOException {
+        Ticket t = ticket(0);
+        TicketWriter cached = (g, x) -> TicketFragments.write(g, x, TicketFragments.View.LIST);
+        long version = t.getVersion();
+        String first = response(List.of(t), cached);
+        assertThat(response(List.of(t), cached)).isEqualTo(first);
+        assertThat(t.getVersion()).isEqualTo(version);
+    }
+}